@@ -0,0 +1,107 @@
+package com.acoldbottle.todolist.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 요청 처리 스레드 모드 벤치마크 (spring.threads.virtual.enabled=false / true)
+ * 한 번에 concurrency 개의 요청이 몰릴 때 모두 처리하는 속도 (점수 = 초당 처리한 묶음 수, 요청 수 = 점수 * concurrency)
+ *
+ * 요청 하나 = 약간의 CPU 작업 + ioMillis 동안 블로킹 I/O (DB, Redis 응답 대기)
+ * 블로킹 I/O 는 poolSize 개의 허가(Semaphore)를 얻은 요청만 실행 -> Hikari 커넥션 풀 (DB_POOL_SIZE 기본값 20)
+ * platform = Tomcat 기본 요청 스레드 풀 (threads.max = 200)
+ * virtual = 요청마다 virtual thread
+ * pinned = true 이면 synchronized 안에서 I/O 를 기다림 (이전 MySQL 드라이버) -> virtual thread 가 carrier thread 에 고정됨
+ */
+@State(Scope.Benchmark)
+public class ThreadModeBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"1000", "5000"})
+    public int concurrency;
+
+    @Param({"false", "true"})
+    public boolean pinned;
+
+    @Param({"5"})
+    public long ioMillis;
+
+    @Param({"20"})
+    public int poolSize;
+
+    private ExecutorService executor;
+    private Semaphore connections;
+
+    @Setup
+    public void setUp() {
+
+        executor = mode.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+        connections = new Semaphore(poolSize, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void burst(Blackhole blackhole) throws Exception {
+
+        List<Future<?>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(() -> handle(blackhole)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private void handle(Blackhole blackhole) {
+
+        Blackhole.consumeCPU(1000);
+        connections.acquireUninterruptibly(); // 커넥션 대여 (Hikari 처럼 먼저 기다린 순서대로)
+        try {
+            if (pinned) {
+                // 요청마다 다른 lock -> 경합 없이 pinning 효과만 측정
+                Object lock = new Object();
+                blackhole.consume(lock); // escape analysis 로 lock 이 제거되지 않게 함
+                synchronized (lock) {
+                    blockingIo();
+                }
+            } else {
+                blockingIo();
+            }
+        } finally {
+            connections.release();
+        }
+        blackhole.consume(Thread.currentThread());
+    }
+
+    private void blockingIo() {
+
+        try {
+            Thread.sleep(ioMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
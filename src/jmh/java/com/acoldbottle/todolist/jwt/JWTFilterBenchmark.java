@@ -0,0 +1,54 @@
+package com.acoldbottle.todolist.jwt;
+
+import com.acoldbottle.todolist.domain.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JWTFilter 벤치마크
+ * mock 서블릿 객체로 access 토큰 검증부터 SecurityContext 설정까지 필터 한 번 통과
+ * cacheEnabled = true 이면 AccessTokenCache 를 거치는 반복 요청을 측정
+ */
+@State(Scope.Thread)
+public class JWTFilterBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private JWTFilter jwtFilter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+
+        JWTUtil jwtUtil = new JWTUtil(JWTUtilBenchmark.SECRET);
+        jwtFilter = new JWTFilter(jwtUtil, cacheEnabled ? new AccessTokenCache(10_000) : null);
+        authorization = "Bearer " + jwtUtil.createJwt("access", "google_1234567890", UserRole.USER, 1L, TokenExpiration.ACCESS_TOKEN_EXPIRATION);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filterPass() throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/todo-categories");
+        request.addHeader("access", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
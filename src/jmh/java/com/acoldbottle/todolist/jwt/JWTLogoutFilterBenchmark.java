@@ -0,0 +1,58 @@
+package com.acoldbottle.todolist.jwt;
+
+import com.acoldbottle.todolist.domain.RefreshToken;
+import com.acoldbottle.todolist.domain.UserRole;
+import com.acoldbottle.todolist.repository.InMemoryRefreshTokenStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * JWTLogoutFilter 벤치마크
+ * Redis 대신 InMemoryRefreshTokenStore 를 사용해 로그아웃 한 번(토큰 저장 -> 일치 확인 후 삭제)의 필터 비용만 측정
+ */
+@State(Scope.Thread)
+public class JWTLogoutFilterBenchmark {
+
+    private static final String USERNAME = "google_1234567890";
+
+    private JWTLogoutFilter logoutFilter;
+    private InMemoryRefreshTokenStore refreshTokenStore;
+    private RefreshToken refreshToken;
+
+    @Setup
+    public void setUp() {
+
+        JWTUtil jwtUtil = new JWTUtil(JWTUtilBenchmark.SECRET);
+        refreshTokenStore = new InMemoryRefreshTokenStore();
+        logoutFilter = new JWTLogoutFilter(jwtUtil, refreshTokenStore);
+
+        refreshToken = new RefreshToken();
+        refreshToken.setUsername(USERNAME);
+        refreshToken.setRefresh(jwtUtil.createJwt("refresh", USERNAME, UserRole.USER, 1L, TokenExpiration.REFRESH_TOKEN_EXPIRATION));
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        refreshTokenStore.destroy();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse logout() throws Exception {
+
+        refreshTokenStore.save(refreshToken);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/logout");
+        request.addHeader("refresh", refreshToken.getRefresh());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        logoutFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,83 @@
+package com.acoldbottle.todolist.jwt;
+
+import com.acoldbottle.todolist.domain.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * JWTUtil 벤치마크
+ * 토큰 생성, 한 번 파싱(parse), 클레임마다 파서를 새로 만들어 다시 검증하는 기존 방식 비교
+ */
+@State(Scope.Benchmark)
+public class JWTUtilBenchmark {
+
+    static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JWTUtil jwtUtil;
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+
+        jwtUtil = new JWTUtil(SECRET);
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        accessToken = jwtUtil.createJwt("access", "google_1234567890", UserRole.USER, 1L, TokenExpiration.ACCESS_TOKEN_EXPIRATION);
+    }
+
+    @Benchmark
+    public String createJwt() {
+
+        return jwtUtil.createJwt("access", "google_1234567890", UserRole.USER, 1L, TokenExpiration.ACCESS_TOKEN_EXPIRATION);
+    }
+
+    /**
+     * 서명 검증 한 번으로 모든 클레임 추출
+     */
+    @Benchmark
+    public JWTClaims parseOnce() {
+
+        return jwtUtil.parse(accessToken);
+    }
+
+    /**
+     * 클레임 getter 마다 파서를 새로 만들고 서명을 다시 검증하는 기존 방식 (요청당 5번)
+     */
+    @Benchmark
+    public void parsePerClaim(Blackhole blackhole) {
+
+        blackhole.consume(newClaims().getExpiration().before(new Date()));
+        blackhole.consume(newClaims().get("access", String.class));
+        blackhole.consume(newClaims().get("username", String.class));
+        blackhole.consume(UserRole.valueOf(newClaims().get("role", String.class)));
+        blackhole.consume(newClaims().get("userId", Long.class));
+    }
+
+    /**
+     * 공유 파서로 클레임 getter 마다 서명을 다시 검증하는 방식 (요청당 5번)
+     */
+    @Benchmark
+    public void parsePerClaimSharedParser(Blackhole blackhole) {
+
+        blackhole.consume(jwtUtil.isExpired(accessToken));
+        blackhole.consume(jwtUtil.getCategory(accessToken));
+        blackhole.consume(jwtUtil.getUsername(accessToken));
+        blackhole.consume(jwtUtil.getRole(accessToken));
+        blackhole.consume(jwtUtil.getUserId(accessToken));
+    }
+
+    private Claims newClaims() {
+
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(accessToken).getPayload();
+    }
+}
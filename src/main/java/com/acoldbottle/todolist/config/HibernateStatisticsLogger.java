@@ -0,0 +1,47 @@
+package com.acoldbottle.todolist.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 2차 캐시, 쿼리 캐시 통계를 주기적으로 로그로 출력
+ * spring.jpa.properties.hibernate.generate_statistics=true 일 때만 등록
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.jpa.properties.hibernate", name = "generate_statistics", havingValue = "true")
+public class HibernateStatisticsLogger {
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsLogger(EntityManagerFactory entityManagerFactory) {
+
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Scheduled(fixedDelayString = "${todolist.statistics.log-interval-ms:300000}")
+    public void logStatistics() {
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            log.info("[L2 cache] region={}, hit={}, miss={}, put={}, size={}", region,
+                    regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+                    regionStatistics.getPutCount(), regionStatistics.getElementCountInMemory());
+        }
+
+        log.info("[query cache] hit={}, miss={}, put={}, [queries executed]={}",
+                statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(), statistics.getQueryExecutionCount());
+    }
+
+    public Statistics getStatistics() {
+        return statistics;
+    }
+}
@@ -0,0 +1,22 @@
+package com.acoldbottle.todolist.config;
+
+import com.acoldbottle.todolist.id.IdGeneratorHolder;
+import com.acoldbottle.todolist.id.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 엔티티 ID 생성기 설정 클래스
+ * 서버(노드)마다 todolist.id.node-id 를 다르게 설정해야 ID 가 겹치지 않음 (0 ~ 1023)
+ */
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    public IdGeneratorConfig(@Value("${todolist.id.node-id:0}") long nodeId) {
+
+        IdGeneratorHolder.set(new SnowflakeIdGenerator(nodeId));
+        log.info("ID generator initialized, [node ID]={}", nodeId);
+    }
+}
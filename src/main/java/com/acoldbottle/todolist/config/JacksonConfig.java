@@ -0,0 +1,59 @@
+package com.acoldbottle.todolist.config;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Jackson 설정 클래스
+ *
+ * 엔티티 ID 는 Snowflake 값이라 2^53 을 넘는다.
+ * JS 클라이언트가 number 로 받으면 반올림되므로 id, xxxId 이름의 Long 필드는 문자열로 내려준다.
+ * 요청 쪽은 Jackson 기본 강제 변환으로 "123" 과 123 을 모두 Long 으로 받는다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Module 빈은 Spring Boot 가 ObjectMapper 에 자동 등록한다.
+     */
+    @Bean
+    public Module entityIdModule() {
+
+        SimpleModule module = new SimpleModule("EntityIdModule");
+        module.setSerializerModifier(new EntityIdSerializerModifier());
+        return module;
+    }
+
+    static class EntityIdSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> properties) {
+
+            for (BeanPropertyWriter writer : properties) {
+                if (isEntityId(writer) && !writer.hasSerializer()) {
+                    writer.assignSerializer(ToStringSerializer.instance);
+                }
+            }
+            return properties;
+        }
+
+        private static boolean isEntityId(BeanPropertyWriter writer) {
+
+            Class<?> type = writer.getType().getRawClass();
+            if (type != Long.class && type != long.class) {
+                return false;
+            }
+            String name = writer.getName();
+            return name.equals("id") || name.endsWith("Id");
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.acoldbottle.todolist.config;
+
+import com.acoldbottle.todolist.jwt.AccessTokenCache;
+import com.acoldbottle.todolist.search.TodoSearchIndex;
+import com.acoldbottle.todolist.sse.TodoEventStream;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometer 메트릭 설정 (Prometheus 형식으로 /actuator/prometheus 에서 수집)
+ *
+ * HTTP 요청(http.server.requests), Hikari 커넥션 풀, Lettuce(Redis) 명령 지연, Hibernate 통계는 Spring Boot 가 자동으로 등록
+ * 여기서는 @Timed 를 처리하는 aspect 와 애플리케이션 내부 상태(캐시, SSE 연결, 검색 인덱스, pinning)를 등록
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 서비스, 리포지토리의 @Timed -> 메서드별 타이머 (class, method 태그)
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * access 토큰 캐시 hit, miss, 제거 수, 크기 (spring.jwt.cache.enabled=true 일 때)
+     */
+    @Bean
+    public MeterBinder accessTokenCacheMetrics(ObjectProvider<AccessTokenCache> accessTokenCache) {
+
+        return registry -> accessTokenCache.ifAvailable(cache -> {
+
+            FunctionCounter.builder("todolist.jwt.cache.requests", cache, AccessTokenCache::getHitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("todolist.jwt.cache.requests", cache, AccessTokenCache::getMissCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("todolist.jwt.cache.evictions", cache, AccessTokenCache::getEvictionCount)
+                    .register(registry);
+            Gauge.builder("todolist.jwt.cache.size", cache, AccessTokenCache::size)
+                    .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder todoEventStreamMetrics(TodoEventStream todoEventStream) {
+
+        return registry -> Gauge.builder("todolist.sse.connections", todoEventStream, TodoEventStream::getConnectionCount)
+                .description("열려있는 SSE 연결 수")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder searchIndexMetrics(TodoSearchIndex todoSearchIndex) {
+
+        return registry -> Gauge.builder("todolist.search.index.users", todoSearchIndex, TodoSearchIndex::getUserCount)
+                .description("검색 인덱스가 있는 사용자 수")
+                .register(registry);
+    }
+
+    /**
+     * virtual thread pinning 횟수 (todolist.virtual-threads.pinning-monitor.enabled=true 일 때)
+     */
+    @Bean
+    public MeterBinder pinningMetrics(ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor) {
+
+        return registry -> pinningMonitor.ifAvailable(monitor ->
+                FunctionCounter.builder("todolist.virtual_threads.pinned", monitor, VirtualThreadPinningMonitor::getPinnedCount)
+                        .register(registry));
+    }
+}
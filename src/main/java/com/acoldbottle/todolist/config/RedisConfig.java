@@ -1,23 +1,33 @@
 package com.acoldbottle.todolist.config;
 
 import com.acoldbottle.todolist.domain.RefreshToken;
+import com.acoldbottle.todolist.repository.RefreshRepository;
+import com.acoldbottle.todolist.repository.RefreshTokenRedisSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+/**
+ * Redis 설정 (spring.jwt.refresh.store=redis, 기본값)
+ * memory 로 설정하면 RedisTemplate 을 만들지 않음 -> Redis 없이 서버 한 대로 운영
+ * (ETag 버전 저장소도 todolist.etag.store=memory 로 설정해야 조회 요청마다 Redis 에 접근하지 않음)
+ */
 @Configuration
 @EnableRedisRepositories // RedisRepository 기능을 활성화
+@ConditionalOnProperty(prefix = "spring.jwt.refresh", name = "store", havingValue = "redis", matchIfMissing = true)
 public class RedisConfig {
 
     /**
      * RedisTemplate 설정
      *
      * @param redisConnectionFactory Redis 연결 팩토리
-     * @return RedisTemplate<String, RefreshToken>  -> String = "refresh_token"
+     * @return RedisTemplate<String, RefreshToken>  -> String = "refresh_token:{username}"
      */
     @Bean
     public RedisTemplate<String, RefreshToken> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
@@ -26,8 +36,8 @@ public class RedisConfig {
 
         // 키 직렬화
         template.setKeySerializer(new StringRedisSerializer());
-        // 값 직렬화
-        Jackson2JsonRedisSerializer<RefreshToken> serializer = new Jackson2JsonRedisSerializer<>(RefreshToken.class);
+        // 값 직렬화 (고정 크기 바이너리, 이전 JSON 값도 읽을 수 있음)
+        RefreshTokenRedisSerializer serializer = new RefreshTokenRedisSerializer();
         template.setValueSerializer(serializer);
 
         // 필요 시, 해시 키와 값 직렬화도 설정
@@ -36,5 +46,14 @@ public class RedisConfig {
 
         return template;
     }
-}
 
+    /**
+     * 애플리케이션 시작 시 이전 "refresh_token" hash 를 사용자별 키로 옮김
+     * spring.jwt.refresh.migrate-legacy-hash=true 이고 Redis 저장소를 사용할 때만 실행
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.jwt.refresh", name = "migrate-legacy-hash", havingValue = "true")
+    public ApplicationRunner refreshTokenMigrationRunner(ObjectProvider<RefreshRepository> refreshRepository) {
+        return args -> refreshRepository.ifAvailable(RefreshRepository::migrateLegacyHash);
+    }
+}
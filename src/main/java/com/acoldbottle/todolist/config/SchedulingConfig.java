@@ -0,0 +1,15 @@
+package com.acoldbottle.todolist.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * todolist.scheduling.enabled=false 로 끄면 @Scheduled 작업(삭제된 카테고리 정리 등)을 실행하지 않음
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "todolist.scheduling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
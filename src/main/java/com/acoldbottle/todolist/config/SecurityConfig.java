@@ -1,13 +1,21 @@
 package com.acoldbottle.todolist.config;
 
+import com.acoldbottle.todolist.domain.UserRole;
 import com.acoldbottle.todolist.handler.LoginSuccessHandler;
+import com.acoldbottle.todolist.jwt.AccessTokenCache;
 import com.acoldbottle.todolist.jwt.JWTFilter;
 import com.acoldbottle.todolist.jwt.JWTLogoutFilter;
 import com.acoldbottle.todolist.jwt.JWTUtil;
 import com.acoldbottle.todolist.oauth2.CustomOAuth2UserService;
-import com.acoldbottle.todolist.repository.RefreshRepository;
+import com.acoldbottle.todolist.repository.RefreshTokenStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -33,15 +41,25 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final LoginSuccessHandler loginSuccessHandler;
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final MeterRegistry meterRegistry;
 
+    /**
+     * 검증된 access 토큰 캐시 (spring.jwt.cache.enabled=true 일 때만 등록)
+     */
     @Bean
-    public JWTFilter jwtFilter() {
-        return new JWTFilter(jwtUtil);
+    @ConditionalOnProperty(prefix = "spring.jwt.cache", name = "enabled", havingValue = "true")
+    public AccessTokenCache accessTokenCache(@Value("${spring.jwt.cache.max-size:10000}") int maxSize) {
+        return new AccessTokenCache(maxSize);
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public JWTFilter jwtFilter(ObjectProvider<AccessTokenCache> accessTokenCache) {
+        return new JWTFilter(jwtUtil, accessTokenCache.getIfAvailable(), meterRegistry);
+    }
+
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http, JWTFilter jwtFilter) throws Exception {
 
         // CORS 설정
         http
@@ -78,16 +96,19 @@ public class SecurityConfig {
 
         // JWT 필터 추가 (토큰 발급)
         http
-                .addFilterAfter(jwtFilter(), UsernamePasswordAuthenticationFilter.class);
+                .addFilterAfter(jwtFilter, UsernamePasswordAuthenticationFilter.class);
 
         // JWT 로그아웃 필터 추가 (토큰 삭제)
         http
-                .addFilterBefore(new JWTLogoutFilter(jwtUtil, refreshRepository), LogoutFilter.class);
+                .addFilterBefore(new JWTLogoutFilter(jwtUtil, refreshTokenStore, meterRegistry), LogoutFilter.class);
 
         // 요청 권한 설정
         http
                 .authorizeHttpRequests((auth) -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // SSE 비동기 dispatch (첫 요청에서 인증됨)
                         .requestMatchers("/", "/login", "/reissue").permitAll()
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll() // 관리 포트(management.server.port)로만 노출
+                        .requestMatchers("/api/admin/**").hasAuthority(UserRole.ADMIN.name())
                         .requestMatchers("/api/**", "/logout").authenticated()
                         .anyRequest().denyAll());
 
@@ -0,0 +1,101 @@
+package com.acoldbottle.todolist.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * virtual thread 가 carrier thread 에 고정(pinning)되는 경우를 JFR(jdk.VirtualThreadPinned)로 감지해서 로그로 출력
+ * todolist.virtual-threads.pinning-monitor.enabled=true 일 때만 등록 (spring.threads.virtual.enabled=true 와 함께 사용)
+ *
+ * synchronized 블록 안에서 I/O 를 기다리면 carrier thread 가 같이 멈추므로 동시 처리량이 carrier 수(CPU 수)로 제한됨
+ * 같은 위치(stack trace)는 처음 한 번만 WARN 으로 출력하고, 이후에는 횟수만 셈
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "todolist.virtual-threads.pinning-monitor", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 8; // 로그에 출력할 frame 수
+
+    private final RecordingStream recordingStream = new RecordingStream();
+    private final Set<String> reportedStacks = ConcurrentHashMap.newKeySet();
+    private final LongAdder pinnedCount = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+
+    public VirtualThreadPinningMonitor(@Value("${todolist.virtual-threads.pinning-monitor.threshold-ms:20}") long thresholdMs) {
+
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started");
+    }
+
+    /**
+     * 감지된 pinning 횟수
+     */
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    /**
+     * 감지된 pinning 시간 합계
+     */
+    public Duration getPinnedDuration() {
+        return Duration.ofNanos(pinnedNanos.sum());
+    }
+
+    @Override
+    public void destroy() {
+        recordingStream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+
+        pinnedCount.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+
+        String stack = format(event.getStackTrace());
+        if (reportedStacks.add(stack)) {
+            log.warn("[virtual thread pinned] duration={}ms, thread={}\n{}", event.getDuration().toMillis(),
+                    event.getThread() != null ? event.getThread().getJavaName() : "unknown", stack);
+        }
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+
+        if (stackTrace == null) {
+            return "\t(no stack trace)";
+        }
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(STACK_DEPTH)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + "(line " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining("\n"));
+    }
+}
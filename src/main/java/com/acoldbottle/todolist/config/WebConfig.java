@@ -0,0 +1,24 @@
+package com.acoldbottle.todolist.config;
+
+import com.acoldbottle.todolist.handler.CurrentUserArgumentResolver;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC 설정 클래스
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * @CurrentUser 파라미터 리졸버 등록
+     */
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+
+        resolvers.add(new CurrentUserArgumentResolver());
+    }
+}
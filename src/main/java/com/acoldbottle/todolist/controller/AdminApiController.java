@@ -0,0 +1,60 @@
+package com.acoldbottle.todolist.controller;
+
+import com.acoldbottle.todolist.service.RefreshService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 관리자 Controller (ADMIN 권한만 접근, SecurityConfig)
+ *
+ * 일괄 로그아웃 POST /api/admin/logout
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminApiController {
+
+    private final RefreshService refreshService;
+
+    /**
+     * 여러 사용자의 refresh 토큰을 한 번에 삭제 -> 발급된 access 토큰이 만료되면 다시 로그인해야 함
+     *
+     * @param request 로그아웃시킬 사용자 이름 목록 (최대 10000개)
+     * @return 요청한 사용자 수, 실제로 삭제된 토큰 수를 포함한 LogoutAllResponse 객체
+     */
+    @PostMapping("/logout")
+    public LogoutAllResponse logoutAll(@RequestBody @Valid LogoutAllRequest request) {
+
+        long revoked = refreshService.revokeAll(request.getUsernames());
+
+        return new LogoutAllResponse(request.getUsernames().size(), revoked);
+    }
+
+
+    @Data
+    @NoArgsConstructor
+    static class LogoutAllRequest {
+        @NotEmpty
+        @Size(max = 10000)
+        private List<@NotBlank String> usernames;
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class LogoutAllResponse {
+        private int requested;
+        private long revoked;
+    }
+}
@@ -1,10 +1,13 @@
 package com.acoldbottle.todolist.controller;
 
 
+import com.acoldbottle.todolist.dto.AuthenticatedUser;
 import com.acoldbottle.todolist.dto.CategoryDTO;
-import com.acoldbottle.todolist.dto.UserDTO;
+import com.acoldbottle.todolist.dto.CategorySummary;
+import com.acoldbottle.todolist.dto.CursorPage;
+import com.acoldbottle.todolist.handler.CurrentUser;
 import com.acoldbottle.todolist.service.CategoryService;
-import com.acoldbottle.todolist.service.UserService;
+import com.acoldbottle.todolist.service.TodoVersionService;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -12,15 +15,17 @@ import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 할일 카테고리 관련 Controller(조회, 추가, 삭제)
  *
  * 할일 카테고리 조회 GET /api/todo-categories?dueDate=YYYY-MM-DD
+ * 하루 전체 조회 GET /api/todo-categories/day?dueDate=YYYY-MM-DD
+ * 기간 내 카테고리 조회 GET /api/todo-categories/range?from=YYYY-MM-DD&to=YYYY-MM-DD&cursor=&size=
  * 할일 카테고리 추가 POST /api/todo-categories?dueDate=YYYY-MM-DD
  * 카테고리 삭제  DELETE /api/todo-categories/{categoryId}
  */
@@ -30,31 +35,75 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CategoryApiController {
 
-    private final UserService userService;
     private final CategoryService categoryService;
+    private final TodoVersionService todoVersionService;
 
 
     /**
      * 할일 카테고리 조회.
      *
+     * If-None-Match 가 현재 ETag 와 같으면 DB 를 조회하지 않고 304 응답
+     *
      * @param dueDate 조회할 날짜
-     * @return 사용자 ID, 사용자 이름, 카테고리 목록을 포함한 TodoResponse 객체
+     * @param user 현재 인증된 사용자
+     * @return 사용자 ID, 사용자 이름, 카테고리 목록을 포함한 TodoResponse 객체 (변경이 없으면 304)
      */
     @GetMapping
-    public TodoResponse todoList(@RequestParam LocalDate dueDate) {
+    public TodoResponse todoList(@RequestParam LocalDate dueDate, @CurrentUser AuthenticatedUser user, WebRequest webRequest) {
+
+        if (isNotModified(user, webRequest)) {
+            return null;
+        }
+
+        Long userId = user.getUserId();
+        String username = user.getUsername();
+
+        List<CategorySummary> categories = categoryService.getCategories(dueDate, userId);
 
-        Long userId = userService.getCurrentUserId();
-        UserDTO userDTO = userService.findByUserId(userId);
-        String username = userDTO.getUsername();
+        return new TodoResponse(userId, username, categories);
+    }
 
-        List<CategoryDTO> categories = categoryService.getCategories(dueDate, userDTO);
+    /**
+     * 하루 전체 조회 (카테고리 + 카테고리별 할일 목록)
+     * 카테고리마다 할일 조회를 따로 요청하지 않도록 한 번에 응답
+     *
+     * If-None-Match 가 현재 ETag 와 같으면 DB 를 조회하지 않고 304 응답
+     *
+     * @param dueDate 조회할 날짜
+     * @param user 현재 인증된 사용자
+     * @return 사용자 ID, 사용자 이름, 할일 목록을 포함한 카테고리 목록을 포함한 DayResponse 객체 (변경이 없으면 304)
+     */
+    @GetMapping("/day")
+    public DayResponse dayView(@RequestParam LocalDate dueDate, @CurrentUser AuthenticatedUser user, WebRequest webRequest) {
+
+        if (isNotModified(user, webRequest)) {
+            return null;
+        }
+
+        List<CategoryDTO> categories = categoryService.getDayView(dueDate, user.getUserId());
+
+        return new DayResponse(user.getUserId(), user.getUsername(), categories);
+    }
+
+    /**
+     * 기간 내 카테고리 조회 (주간, 월간 일정) -> (마감일, ID) 순으로 페이지 단위 조회
+     *
+     * @param from 시작 날짜
+     * @param to 종료 날짜 (포함)
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 생략
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @param user 현재 인증된 사용자
+     * @return 사용자 ID, 사용자 이름, 카테고리 목록, 다음 페이지 커서를 포함한 CategoryPageResponse 객체
+     */
+    @GetMapping("/range")
+    public CategoryPageResponse categoriesInRange(@RequestParam LocalDate from, @RequestParam LocalDate to,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer size,
+                                                  @CurrentUser AuthenticatedUser user) {
 
-        // CategoryDTO를 ResponseCategoryDTO로 변환
-        List<ResponseCategoryDTO> responseCategories = categories.stream()
-                .map(category -> new ResponseCategoryDTO(category.getCategoryId(), category.getTitle(), category.getDueDate()))
-                .collect(Collectors.toList());
+        CursorPage<CategorySummary> page = categoryService.getCategoriesInRange(user.getUserId(), from, to, cursor, size);
 
-        return new TodoResponse(userId, username, responseCategories);
+        return new CategoryPageResponse(user.getUserId(), user.getUsername(), page.items(), page.nextCursor());
     }
 
     /**
@@ -62,20 +111,19 @@ public class CategoryApiController {
      *
      * @param dueDate 조회할 날짜
      * @param request 카테고리 내용 -> ex) 운동, 공부와 같은 큰 범위
+     * @param user 현재 인증된 사용자
      * @return 사용자 ID, 사용자 이름, 추가한 카테고리를 포함한 AddCategoryResponse 객체
      */
     @PostMapping
-    public AddCategoryResponse addCategory(@RequestParam LocalDate dueDate, @RequestBody @Valid CategoryRequest request) {
-
-        Long userId = userService.getCurrentUserId();
+    public AddCategoryResponse addCategory(@RequestParam LocalDate dueDate, @RequestBody @Valid CategoryRequest request, @CurrentUser AuthenticatedUser user) {
 
-        UserDTO userDTO = userService.findByUserId(userId);
+        Long userId = user.getUserId();
 
         Long categoryId = categoryService.addCategory(dueDate, userId, request.getTitle());
 
         AddCategoryDTO addCategoryDTO = new AddCategoryDTO(categoryId, request.getTitle(), dueDate);
 
-        return new AddCategoryResponse(userDTO.getUserId(), userDTO.getUsername(), addCategoryDTO);
+        return new AddCategoryResponse(userId, user.getUsername(), addCategoryDTO);
     }
 
     /**
@@ -95,22 +143,39 @@ public class CategoryApiController {
     }
 
 
+    /**
+     * 현재 버전의 ETag 를 응답 헤더에 설정하고, If-None-Match 와 같으면 true (-> 304)
+     */
+    private boolean isNotModified(AuthenticatedUser user, WebRequest webRequest) {
+
+        String etag = todoVersionService.etag(user.getUserId());
+        return etag != null && webRequest.checkNotModified(etag);
+    }
+
+
     @Data
     @AllArgsConstructor
     static class TodoResponse {
         private Long userId;
         private String username;
-        private List<ResponseCategoryDTO> category;
+        private List<CategorySummary> category;
     }
 
     @Data
     @AllArgsConstructor
-    @NoArgsConstructor
-    static class ResponseCategoryDTO {
+    static class DayResponse {
+        private Long userId;
+        private String username;
+        private List<CategoryDTO> category;
+    }
 
-        private Long categoryId;
-        private String title;
-        private LocalDate dueDate;
+    @Data
+    @AllArgsConstructor
+    static class CategoryPageResponse {
+        private Long userId;
+        private String username;
+        private List<CategorySummary> category;
+        private String nextCursor;
     }
 
     @Data
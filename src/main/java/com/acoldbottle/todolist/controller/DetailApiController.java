@@ -1,17 +1,25 @@
 package com.acoldbottle.todolist.controller;
 
+import com.acoldbottle.todolist.dto.AuthenticatedUser;
 import com.acoldbottle.todolist.dto.CategoryDTO;
+import com.acoldbottle.todolist.dto.CursorPage;
+import com.acoldbottle.todolist.dto.DetailBatchResult;
 import com.acoldbottle.todolist.dto.DetailDTO;
-import com.acoldbottle.todolist.dto.UserDTO;
+import com.acoldbottle.todolist.handler.CurrentUser;
 import com.acoldbottle.todolist.service.CategoryService;
 import com.acoldbottle.todolist.service.DetailService;
-import com.acoldbottle.todolist.service.UserService;
+import com.acoldbottle.todolist.service.TodoVersionService;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,9 +28,12 @@ import java.util.List;
  * 카테고리의 할일 관련 Controller(조회, 추가, 수정, 삭제)
  *
  * 특정 카테고리의 할일 조회 GET http://<서버주소>/api/todo-categories/{categoryId}/details
+ * 특정 카테고리의 할일 페이지 조회 GET http://<서버주소>/api/todo-categories/{categoryId}/details/page?cursor=&size=
  * 특정 카테고리에 할일 추가 POST http://<서버주소>/api/todo-categories/{categoryId}/details
  * 특정 카테고리에 할일 수정 PATCH http://<서버주소>/api/todo-categories/{categoryId}/details/{detailId}
+ * 특정 카테고리에 할일 완료 여부 변경 PUT http://<서버주소>/api/todo-categories/{categoryId}/details/{detailId}/completion
  * 특정 카테고리에 할일 삭제 DELETE http://<서버주소>/api/todo-categories/{categoryId}/details/{detailId}
+ * 특정 카테고리에 할일 일괄 추가/수정/삭제 POST http://<서버주소>/api/todo-categories/{categoryId}/details/batch
  */
 @RestController
 @RequestMapping("/api/todo-categories")
@@ -31,26 +42,51 @@ public class DetailApiController {
 
     private final CategoryService categoryService;
     private final DetailService detailService;
-    private final UserService userService;
+    private final TodoVersionService todoVersionService;
 
     /**
      * 할일 조회
      *
+     * If-None-Match 가 현재 ETag 와 같으면 DB 를 조회하지 않고 304 응답
+     *
      * @param categoryId 카테고리 ID
-     * @return 사용자 ID, 사용자 이름, 카테고리와 해당 카테고리 안에 있는 할일 목록을 포함한 AllDetailResponse 객체
+     * @param user 현재 인증된 사용자
+     * @return 사용자 ID, 사용자 이름, 카테고리와 해당 카테고리 안에 있는 할일 목록을 포함한 AllDetailResponse 객체 (변경이 없으면 304)
      */
     @GetMapping("/{categoryId}/details")
-    public AllDetailResponse getDetailsByCategory(@PathVariable Long categoryId) {
+    public AllDetailResponse getDetailsByCategory(@PathVariable Long categoryId, @CurrentUser AuthenticatedUser user, WebRequest webRequest) {
 
-        Long userId = userService.getCurrentUserId();
-        UserDTO userDTO = userService.findByUserId(userId);
+        String etag = todoVersionService.etag(user.getUserId());
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
         CategoryDTO categoryDTO = categoryService.findCategory(categoryId);
 
         List<DetailDTO> details = detailService.getDetailsByCategory(categoryId);
         categoryDTO.setDetailDTOList(details);
 
-        return new AllDetailResponse(userDTO.getUserId(), userDTO.getUsername(), categoryDTO);
+        return new AllDetailResponse(user.getUserId(), user.getUsername(), categoryDTO);
+    }
+
+    /**
+     * 할일 페이지 조회 -> ID 순으로 페이지 단위 조회
+     *
+     * @param categoryId 카테고리 ID
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 생략
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @param user 현재 인증된 사용자
+     * @return 사용자 ID, 사용자 이름, 카테고리 ID, 할일 목록, 다음 페이지 커서를 포함한 DetailPageResponse 객체
+     */
+    @GetMapping("/{categoryId}/details/page")
+    public DetailPageResponse getDetailPage(@PathVariable Long categoryId,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) Integer size,
+                                            @CurrentUser AuthenticatedUser user) {
+
+        CursorPage<DetailDTO> page = detailService.getDetailPage(categoryId, user.getUserId(), cursor, size);
+
+        return new DetailPageResponse(user.getUserId(), user.getUsername(), categoryId, page.items(), page.nextCursor());
     }
 
     /**
@@ -58,13 +94,11 @@ public class DetailApiController {
      *
      * @param categoryId 카테고리 ID
      * @param detailDTO 할일 내용 -> ex) 유산소, 웨이트, 코딩 알고리즘, 독서와 같은 상세 할일.
+     * @param user 현재 인증된 사용자
      * @return 사용자 ID, 사용자 이름, 카테고리와 해당 카테고리 안에 있는 할일 목록을 포함한 AllDetailResponse 객체
      */
     @PostMapping("/{categoryId}/details")
-    public AllDetailResponse addDetail(@PathVariable Long categoryId, @RequestBody @Valid DetailDTO detailDTO) {
-
-        Long userId = userService.getCurrentUserId();
-        UserDTO userDTO = userService.findByUserId(userId);
+    public AllDetailResponse addDetail(@PathVariable Long categoryId, @RequestBody @Valid DetailDTO detailDTO, @CurrentUser AuthenticatedUser user) {
 
         CategoryDTO categoryDTO = categoryService.findCategory(categoryId);
         DetailDTO addDetailDTO = detailService.addDetail(categoryId, detailDTO.getDescription());
@@ -72,7 +106,7 @@ public class DetailApiController {
         detailDTOList.add(addDetailDTO);
         categoryDTO.setDetailDTOList(detailDTOList);
 
-        return new AllDetailResponse(userDTO.getUserId(), userDTO.getUsername(), categoryDTO);
+        return new AllDetailResponse(user.getUserId(), user.getUsername(), categoryDTO);
     }
 
     /**
@@ -81,13 +115,11 @@ public class DetailApiController {
      * @param categoryId 카테고리 ID
      * @param detailId 할일 ID
      * @param detailDTO 할일 내용, 완료 여부 -> ex) [유산소, 웨이트, 코딩 알고리즘, 독서와 같은 상세 할일] [true or false] 둘 중에 하나만 요청해도 적용 -> Patch
+     * @param user 현재 인증된 사용자
      * @return 사용자 ID, 사용자 이름, 카테고리와 해당 카테고리 안에 있는 할일 목록을 포함한 AllDetailResponse 객체
      */
     @PatchMapping("/{categoryId}/details/{detailId}")
-    public AllDetailResponse updateDetail(@PathVariable Long categoryId, @PathVariable Long detailId, @RequestBody @Valid DetailDTO detailDTO) {
-
-        Long userId = userService.getCurrentUserId();
-        UserDTO userDTO = userService.findByUserId(userId);
+    public AllDetailResponse updateDetail(@PathVariable Long categoryId, @PathVariable Long detailId, @RequestBody @Valid DetailDTO detailDTO, @CurrentUser AuthenticatedUser user) {
 
         CategoryDTO categoryDTO = categoryService.findCategory(categoryId);
 
@@ -96,7 +128,25 @@ public class DetailApiController {
         detailDTOList.add(updateDetail);
         categoryDTO.setDetailDTOList(detailDTOList);
 
-        return new AllDetailResponse(userDTO.getUserId(), userDTO.getUsername(), categoryDTO);
+        return new AllDetailResponse(user.getUserId(), user.getUsername(), categoryDTO);
+    }
+
+    /**
+     * 할일 완료 여부 변경 (체크박스) -> 카테고리, 할일을 다시 조회하지 않음
+     * 같은 값으로 다시 요청해도 결과가 같음 (updated = 0)
+     *
+     * @param categoryId 카테고리 ID
+     * @param detailId 할일 ID
+     * @param request 완료 여부
+     * @param user 현재 인증된 사용자
+     * @return 할일 ID, 완료 여부, 변경된 할일 수를 포함한 CompletionResponse 객체
+     */
+    @PutMapping("/{categoryId}/details/{detailId}/completion")
+    public CompletionResponse updateCompletion(@PathVariable Long categoryId, @PathVariable Long detailId, @RequestBody @Valid CompletionRequest request, @CurrentUser AuthenticatedUser user) {
+
+        int updated = detailService.updateCompletion(categoryId, detailId, user.getUserId(), request.getIsCompleted());
+
+        return new CompletionResponse(detailId, request.getIsCompleted(), updated);
     }
 
     /**
@@ -116,8 +166,22 @@ public class DetailApiController {
         }
     }
 
+    /**
+     * 할일 일괄 추가, 수정, 삭제 (한 트랜잭션)
+     *
+     * @param categoryId 카테고리 ID
+     * @param request 추가할 할일 내용 목록, 수정할 할일(ID, 내용, 완료 여부) 목록, 삭제할 할일 ID 목록 (각각 최대 100개)
+     * @param user 현재 인증된 사용자
+     * @return 사용자 ID, 사용자 이름, 카테고리 ID, 항목별 처리 결과를 포함한 BatchDetailResponse 객체
+     */
+    @PostMapping("/{categoryId}/details/batch")
+    public BatchDetailResponse batchDetails(@PathVariable Long categoryId, @RequestBody @Valid BatchDetailRequest request, @CurrentUser AuthenticatedUser user) {
 
+        List<DetailBatchResult> results = detailService.applyBatch(categoryId, user.getUserId(),
+                request.getCreate(), request.getUpdate(), request.getDelete());
 
+        return new BatchDetailResponse(user.getUserId(), user.getUsername(), categoryId, results);
+    }
 
 
     @Data
@@ -130,6 +194,33 @@ public class DetailApiController {
     }
 
 
+    @Data
+    @AllArgsConstructor
+    static class DetailPageResponse {
+        private Long userId;
+        private String username;
+        private Long categoryId;
+        private List<DetailDTO> details;
+        private String nextCursor;
+    }
+
+    @Data
+    @NoArgsConstructor
+    static class CompletionRequest {
+        @NotNull
+        @JsonProperty("is_completed")
+        private Boolean isCompleted;
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class CompletionResponse {
+        private Long detailId;
+        @JsonProperty("is_completed")
+        private Boolean isCompleted;
+        private int updated;
+    }
+
     @Data
     @AllArgsConstructor
     static class DeleteDetailResponse {
@@ -137,4 +228,26 @@ public class DetailApiController {
         private Long detailId;
     }
 
+    @Data
+    @NoArgsConstructor
+    static class BatchDetailRequest {
+        @NotNull
+        @Size(max = 100)
+        private List<@NotBlank String> create = new ArrayList<>();
+        @NotNull
+        @Size(max = 100)
+        private List<@NotNull DetailDTO> update = new ArrayList<>();
+        @NotNull
+        @Size(max = 100)
+        private List<@NotNull Long> delete = new ArrayList<>();
+    }
+
+    @Data
+    @AllArgsConstructor
+    static class BatchDetailResponse {
+        private Long userId;
+        private String username;
+        private Long categoryId;
+        private List<DetailBatchResult> results;
+    }
 }
@@ -0,0 +1,53 @@
+package com.acoldbottle.todolist.controller;
+
+import com.acoldbottle.todolist.dto.AuthenticatedUser;
+import com.acoldbottle.todolist.handler.CurrentUser;
+import com.acoldbottle.todolist.search.SearchHit;
+import com.acoldbottle.todolist.search.TodoSearchIndex;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 카테고리, 할일 검색 Controller
+ *
+ * 검색 GET /api/search?q=검색어&limit=20
+ */
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchApiController {
+
+    private final TodoSearchIndex todoSearchIndex;
+
+    /**
+     * 카테고리 제목, 할일 내용 검색 (단어 단위 접두어 일치, 모든 단어 포함)
+     *
+     * @param q 검색어
+     * @param limit 최대 결과 수 (기본 20, 최대 100)
+     * @param user 현재 인증된 사용자
+     * @return 사용자 ID, 사용자 이름, 최신순 검색 결과를 포함한 SearchResponse 객체
+     */
+    @GetMapping
+    public SearchResponse search(@RequestParam String q, @RequestParam(required = false) Integer limit, @CurrentUser AuthenticatedUser user) {
+
+        List<SearchHit> results = todoSearchIndex.search(user.getUserId(), q, limit);
+
+        return new SearchResponse(user.getUserId(), user.getUsername(), results);
+    }
+
+
+    @Data
+    @AllArgsConstructor
+    static class SearchResponse {
+        private Long userId;
+        private String username;
+        private List<SearchHit> results;
+    }
+}
@@ -0,0 +1,57 @@
+package com.acoldbottle.todolist.controller;
+
+import com.acoldbottle.todolist.dto.AuthenticatedUser;
+import com.acoldbottle.todolist.dto.DailyStats;
+import com.acoldbottle.todolist.handler.CurrentUser;
+import com.acoldbottle.todolist.service.StatsService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 할일 통계 관련 Controller
+ *
+ * 기간 내 진행률 조회 GET /api/stats?from=YYYY-MM-DD&to=YYYY-MM-DD&unit=day|week|month
+ */
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsApiController {
+
+    private final StatsService statsService;
+
+    /**
+     * 기간 내 진행률(완료한 할일 수 / 할일 수) 조회
+     *
+     * @param from 시작 날짜
+     * @param to 종료 날짜 (포함, 최대 366일)
+     * @param unit 집계 단위 (day, week, month), 기본 day
+     * @param user 현재 인증된 사용자
+     * @return 사용자 ID, 사용자 이름, 기간별 통계를 포함한 StatsResponse 객체
+     */
+    @GetMapping
+    public StatsResponse stats(@RequestParam LocalDate from, @RequestParam LocalDate to,
+                               @RequestParam(defaultValue = "day") String unit,
+                               @CurrentUser AuthenticatedUser user) {
+
+        List<DailyStats> stats = statsService.getStats(user.getUserId(), from, to, unit);
+
+        return new StatsResponse(user.getUserId(), user.getUsername(), stats);
+    }
+
+
+    @Data
+    @AllArgsConstructor
+    static class StatsResponse {
+        private Long userId;
+        private String username;
+        private List<DailyStats> stats;
+    }
+}
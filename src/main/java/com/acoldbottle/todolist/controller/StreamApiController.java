@@ -0,0 +1,39 @@
+package com.acoldbottle.todolist.controller;
+
+import com.acoldbottle.todolist.dto.AuthenticatedUser;
+import com.acoldbottle.todolist.handler.CurrentUser;
+import com.acoldbottle.todolist.sse.TodoEventStream;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 변경 알림 Controller (Server-Sent Events)
+ *
+ * 변경 알림 구독 GET /api/stream
+ */
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+public class StreamApiController {
+
+    private final TodoEventStream todoEventStream;
+
+    /**
+     * 현재 사용자의 카테고리, 할일 변경 알림 구독
+     * 이벤트 이름 = category_saved, category_deleted, detail_saved, detail_deleted, resync (놓친 이벤트가 있음 -> /api/sync)
+     *
+     * @param user 현재 인증된 사용자
+     * @return 변경 이벤트를 보내는 SseEmitter
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@CurrentUser AuthenticatedUser user, HttpServletResponse response) {
+
+        response.setHeader("X-Accel-Buffering", "no"); // nginx 응답 버퍼링 끄기
+        return todoEventStream.connect(user.getUserId());
+    }
+}
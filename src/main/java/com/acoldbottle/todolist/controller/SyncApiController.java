@@ -0,0 +1,38 @@
+package com.acoldbottle.todolist.controller;
+
+import com.acoldbottle.todolist.dto.AuthenticatedUser;
+import com.acoldbottle.todolist.dto.SyncChanges;
+import com.acoldbottle.todolist.handler.CurrentUser;
+import com.acoldbottle.todolist.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 변경 동기화 Controller (오프라인 클라이언트)
+ *
+ * 변경 조회 GET /api/sync?cursor=
+ */
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncApiController {
+
+    private final SyncService syncService;
+
+    /**
+     * 커서 이후 추가, 수정, 삭제된 카테고리와 할일 조회
+     * hasMore 가 true 면 응답의 cursor 로 바로 다시 요청, resetRequired 가 true 면 커서 없이 전체 동기화
+     *
+     * @param cursor 이전 응답의 cursor, 처음 동기화하면 생략
+     * @param user 현재 인증된 사용자
+     * @return 다음 커서, 변경된 카테고리, 할일, 삭제된 항목을 포함한 SyncChanges 객체
+     */
+    @GetMapping
+    public SyncChanges changes(@RequestParam(required = false) Long cursor, @CurrentUser AuthenticatedUser user) {
+
+        return syncService.getChanges(user.getUserId(), cursor);
+    }
+}
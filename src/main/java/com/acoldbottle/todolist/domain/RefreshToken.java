@@ -9,8 +9,11 @@ import org.springframework.data.redis.core.index.Indexed;
 import static com.acoldbottle.todolist.jwt.TokenExpiration.REFRESH_TOKEN_EXPIRATION;
 
 /**
- * Redis 에서 hash 자료형으로 refresh 토큰과 사용자 이름 을 관리
- * key 는 "refresh_token", TTL 은 14일
+ * Redis 에서 refresh 토큰과 사용자 이름을 관리
+ * key 는 "refresh_token:{username}", TTL 은 토큰 만료 시간까지 (RefreshRepository 에서 저장할 때 설정)
+ *
+ * Redis 에는 토큰 원문 대신 refreshHash(SHA-256), userId, expiresAt 만 저장 (RefreshTokenRedisSerializer)
+ * -> Redis 에서 읽은 값은 refresh, username 이 비어 있음
  */
 @RedisHash(value = "refresh_token", timeToLive = REFRESH_TOKEN_EXPIRATION)
 @Getter @Setter
@@ -20,5 +23,8 @@ public class RefreshToken {
     @Indexed
     private String refresh;
     private String username;
+    private byte[] refreshHash;
+    private Long userId;
+    private Long expiresAt; // 만료 시간 (epoch millis)
 }
 
@@ -1,10 +1,14 @@
 package com.acoldbottle.todolist.domain;
 
+import com.acoldbottle.todolist.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
 
@@ -14,14 +18,18 @@ import java.time.LocalDate;
  * title = 운동, 공부, 휴식
  * user = 사용자
  * dueDate = 마감일
+ * modSeq = 마지막으로 변경된 사용자별 순번 (변경 동기화)
+ * deleted = 삭제 여부 -> 삭제하면 바로 조회에서 제외되고, 할일과 함께 CategoryPurgeService 가 나중에 실제로 삭제
  */
 @Entity
+@SQLRestriction("deleted = false")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todoCategory")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TodoCategory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "category_id")
     private Long id;
 
@@ -33,6 +41,11 @@ public class TodoCategory {
 
     private LocalDate dueDate;
 
+    @Column(nullable = false)
+    private long modSeq;
+
+    @Column(nullable = false)
+    private boolean deleted;
 
     @Builder
     public TodoCategory(String title, User user, LocalDate dueDate) {
@@ -40,4 +53,8 @@ public class TodoCategory {
         this.user = user;
         this.dueDate = dueDate;
     }
+
+    public void touch(long modSeq) {
+        this.modSeq = modSeq;
+    }
 }
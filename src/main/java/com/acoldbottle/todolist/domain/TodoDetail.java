@@ -1,5 +1,6 @@
 package com.acoldbottle.todolist.domain;
 
+import com.acoldbottle.todolist.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -12,6 +13,8 @@ import lombok.NoArgsConstructor;
  * description = 상세 할일 내용
  * isCompleted = 완료 여부
  * todoCategory = 카테고리
+ * userId = 카테고리 소유자 ID (카테고리를 거치지 않고 사용자의 변경된 할일을 조회하기 위해 중복 저장)
+ * modSeq = 마지막으로 변경된 사용자별 순번 (변경 동기화)
  */
 @Entity
 @Getter
@@ -19,7 +22,7 @@ import lombok.NoArgsConstructor;
 public class TodoDetail {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
 
@@ -31,10 +34,17 @@ public class TodoDetail {
     @JoinColumn(name = "category_id")
     private TodoCategory todoCategory;
 
+    @Column(updatable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private long modSeq;
+
     @Builder
     public TodoDetail(String description, TodoCategory todoCategory) {
         this.description = description;
         this.todoCategory = todoCategory;
+        this.userId = todoCategory.getUser().getId();
     }
 
     public void addDescription(String description) {
@@ -44,5 +54,9 @@ public class TodoDetail {
     public void updateCompleteStatus(boolean isCompleted) {
         this.isCompleted = isCompleted;
     }
+
+    public void touch(long modSeq) {
+        this.modSeq = modSeq;
+    }
 }
 
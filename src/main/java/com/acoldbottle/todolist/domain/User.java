@@ -1,10 +1,13 @@
 package com.acoldbottle.todolist.domain;
 
+import com.acoldbottle.todolist.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import static com.acoldbottle.todolist.domain.UserRole.USER;
 
@@ -17,12 +20,13 @@ import static com.acoldbottle.todolist.domain.UserRole.USER;
  * provider = 구글, 페이스북, 네이버와 같은 사용자가 로그인한 소셜
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     @Column(name = "user_id")
     private Long id;
 
@@ -0,0 +1,18 @@
+package com.acoldbottle.todolist.dto;
+
+import com.acoldbottle.todolist.domain.UserRole;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검증된 access 토큰에서 만든 현재 사용자 정보 (불변)
+ * 컨트롤러에서 @CurrentUser 로 주입받아 사용 -> 사용자 조회 쿼리 없이 사용자 ID, 이름 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public final class AuthenticatedUser {
+
+    private final Long userId;
+    private final String username;
+    private final UserRole role;
+}
@@ -0,0 +1,10 @@
+package com.acoldbottle.todolist.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 카테고리 목록 조회용 projection
+ * 엔티티를 로딩하지 않고 필요한 컬럼(ID, 제목, 마감일)만 조회
+ */
+public record CategorySummary(Long categoryId, String title, LocalDate dueDate) {
+}
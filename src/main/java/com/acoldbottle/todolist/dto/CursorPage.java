@@ -0,0 +1,39 @@
+package com.acoldbottle.todolist.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이지 조회 결과
+ *
+ * items = 현재 페이지 항목
+ * nextCursor = 다음 페이지 요청에 그대로 넘길 커서, 마지막 페이지면 null
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 요청한 페이지 크기를 1 ~ MAX_SIZE 로 제한
+     */
+    public static int clampSize(Integer size) {
+
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * size + 1 개를 조회한 결과로 페이지 생성 -> 남는 1개가 있으면 다음 페이지가 있음
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, PageCursor> cursorOf) {
+
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(List.copyOf(items), cursorOf.apply(items.get(size - 1)).encode());
+    }
+}
@@ -0,0 +1,17 @@
+package com.acoldbottle.todolist.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 할일 통계
+ *
+ * from, to = 집계 기간 (일 단위면 같은 날짜, 주/월 단위면 기간의 첫날과 마지막 날)
+ * total = 할일 수
+ * completed = 완료한 할일 수
+ */
+public record DailyStats(LocalDate from, LocalDate to, long total, long completed) {
+
+    public DailyStats plus(DailyStats other) {
+        return new DailyStats(from, to, total + other.total, completed + other.completed);
+    }
+}
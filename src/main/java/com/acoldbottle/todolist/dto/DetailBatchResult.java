@@ -0,0 +1,20 @@
+package com.acoldbottle.todolist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 할일 일괄 처리 결과 (항목마다 하나)
+ *
+ * operation = create, update, delete
+ * detailId = 할일 ID (create 는 새로 생성된 ID)
+ * success = 성공 여부 (해당 카테고리에 없는 할일이면 false)
+ */
+@Data
+@AllArgsConstructor
+public class DetailBatchResult {
+
+    private String operation;
+    private Long detailId;
+    private boolean success;
+}
@@ -0,0 +1,7 @@
+package com.acoldbottle.todolist.dto;
+
+/**
+ * 카테고리의 할일 수, 완료한 할일 수
+ */
+public record DetailCounts(Long total, Long completed) {
+}
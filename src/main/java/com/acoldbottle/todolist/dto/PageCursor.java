@@ -0,0 +1,51 @@
+package com.acoldbottle.todolist.dto;
+
+import com.acoldbottle.todolist.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * keyset 페이지 커서 (클라이언트에게는 의미 없는 문자열로 전달)
+ * 마지막으로 응답한 항목의 정렬 키 (마감일, ID) 를 base64url 로 인코딩
+ *
+ * dueDate = 마지막 항목의 마감일 (할일 페이지는 null)
+ * id = 마지막 항목의 ID
+ */
+public record PageCursor(LocalDate dueDate, long id) {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = ":";
+
+    public static PageCursor of(long id) {
+        return new PageCursor(null, id);
+    }
+
+    public String encode() {
+
+        String value = VERSION + SEPARATOR + (dueDate == null ? "" : dueDate) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidRequestException 해석할 수 없는 커서
+     */
+    public static PageCursor decode(String cursor) {
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = value.split(SEPARATOR, -1);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new InvalidRequestException("잘못된 커서입니다.");
+            }
+            LocalDate dueDate = parts[1].isEmpty() ? null : LocalDate.parse(parts[1]);
+            return new PageCursor(dueDate, Long.parseLong(parts[2]));
+
+        } catch (InvalidRequestException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.", e);
+        }
+    }
+}
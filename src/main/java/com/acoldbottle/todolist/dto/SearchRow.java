@@ -0,0 +1,16 @@
+package com.acoldbottle.todolist.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 검색 인덱스를 만들 때 DB 에서 읽는 행
+ *
+ * detailId = 할일 ID (카테고리 행은 null)
+ * text = 카테고리 제목 or 할일 내용
+ */
+public record SearchRow(Long userId, Long categoryId, Long detailId, LocalDate dueDate, String text) {
+
+    public SearchRow(Long userId, Long categoryId, LocalDate dueDate, String text) {
+        this(userId, categoryId, null, dueDate, text);
+    }
+}
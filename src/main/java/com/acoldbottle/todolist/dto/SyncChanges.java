@@ -0,0 +1,33 @@
+package com.acoldbottle.todolist.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 변경 동기화 응답
+ *
+ * cursor = 다음 요청에 넘길 커서 (이번 응답에 포함된 마지막 순번, ID 처럼 문자열로 응답)
+ * hasMore = 아직 받지 않은 변경이 남아있으면 true -> cursor 로 바로 다시 요청
+ * resetRequired = 커서가 너무 오래되어 삭제 기록이 정리됨 -> 로컬 데이터를 지우고 커서 없이 전체 동기화
+ * categories = 추가, 수정된 카테고리
+ * details = 추가, 수정된 할일
+ * deleted = 삭제된 카테고리, 할일
+ */
+public record SyncChanges(@JsonSerialize(using = ToStringSerializer.class) long cursor, boolean hasMore, boolean resetRequired,
+                          List<Category> categories, List<Detail> details, List<Deleted> deleted) {
+
+    public record Category(Long categoryId, String title, LocalDate dueDate, @JsonSerialize(using = ToStringSerializer.class) long modSeq) {
+    }
+
+    public record Detail(Long detailId, Long categoryId, String description, boolean isCompleted, @JsonSerialize(using = ToStringSerializer.class) long modSeq) {
+    }
+
+    /**
+     * type = category or detail
+     */
+    public record Deleted(String type, Long id, @JsonSerialize(using = ToStringSerializer.class) long modSeq) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.acoldbottle.todolist.event;
+
+import java.time.LocalDate;
+
+/**
+ * 카테고리, 할일 변경 이벤트 -> 서비스에서 발행하고 트랜잭션 커밋 후 리스너(검색 인덱스 등)가 처리
+ *
+ * type = 변경 종류
+ * userId = 카테고리 소유자 ID
+ * categoryId = 카테고리 ID
+ * detailId = 할일 ID (카테고리 이벤트는 null)
+ * dueDate = 카테고리 마감일 (할일 완료 여부만 변경한 이벤트는 조회하지 않으므로 null)
+ * text = 변경된 제목 or 할일 내용 (변경되지 않았거나 삭제 이벤트면 null)
+ */
+public record TodoChangeEvent(Type type, Long userId, Long categoryId, Long detailId, LocalDate dueDate, String text) {
+
+    public enum Type {
+        CATEGORY_SAVED, CATEGORY_DELETED, DETAIL_SAVED, DETAIL_DELETED
+    }
+
+    public static TodoChangeEvent categorySaved(Long userId, Long categoryId, LocalDate dueDate, String title) {
+        return new TodoChangeEvent(Type.CATEGORY_SAVED, userId, categoryId, null, dueDate, title);
+    }
+
+    public static TodoChangeEvent categoryDeleted(Long userId, Long categoryId, LocalDate dueDate) {
+        return new TodoChangeEvent(Type.CATEGORY_DELETED, userId, categoryId, null, dueDate, null);
+    }
+
+    public static TodoChangeEvent detailSaved(Long userId, Long categoryId, Long detailId, LocalDate dueDate, String description) {
+        return new TodoChangeEvent(Type.DETAIL_SAVED, userId, categoryId, detailId, dueDate, description);
+    }
+
+    public static TodoChangeEvent detailDeleted(Long userId, Long categoryId, Long detailId, LocalDate dueDate) {
+        return new TodoChangeEvent(Type.DETAIL_DELETED, userId, categoryId, detailId, dueDate, null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.acoldbottle.todolist.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 같은 날짜에 같은 이름의 카테고리가 이미 있음 -> 409 응답
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicateCategoryException extends MyDbException {
+
+    public DuplicateCategoryException() {
+        super();
+    }
+
+    public DuplicateCategoryException(String message) {
+        super(message);
+    }
+
+    public DuplicateCategoryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public DuplicateCategoryException(Throwable cause) {
+        super(cause);
+    }
+}
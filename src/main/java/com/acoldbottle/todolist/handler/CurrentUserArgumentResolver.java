@@ -0,0 +1,42 @@
+package com.acoldbottle.todolist.handler;
+
+import com.acoldbottle.todolist.dto.AuthenticatedUser;
+import com.acoldbottle.todolist.exception.AuthException;
+import com.acoldbottle.todolist.oauth2.CustomOauth2User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentUser AuthenticatedUser 파라미터에 SecurityContext 의 사용자 정보를 주입하는 리졸버
+ * JWTFilter 에서 만든 인증 정보를 그대로 사용하므로 DB 조회 없음
+ */
+@Slf4j
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && AuthenticatedUser.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.isAuthenticated() && authentication.getPrincipal() instanceof CustomOauth2User currentUser) {
+
+            return currentUser.getAuthenticatedUser();
+        }
+
+        log.error("인증되지 않은 사용자 요청 : authentication = {}", authentication);
+        throw new AuthException("인증된 사용자가 아닙니다");
+    }
+}
@@ -4,8 +4,9 @@ import com.acoldbottle.todolist.domain.RefreshToken;
 import com.acoldbottle.todolist.domain.UserRole;
 import com.acoldbottle.todolist.jwt.JWTUtil;
 import com.acoldbottle.todolist.jwt.TokenExpiration;
-import com.acoldbottle.todolist.repository.RefreshRepository;
+import com.acoldbottle.todolist.repository.RefreshTokenStore;
 import com.acoldbottle.todolist.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,14 +23,16 @@ import static com.acoldbottle.todolist.jwt.TokenExpiration.REFRESH_TOKEN_EXPIRAT
 
 /**
  * 로그인에 성공했을때 access, refresh 토큰을 발급하는 핸들러
+ * 로그인 수는 todolist.login 카운터에 소셜 로그인 제공자별(provider = google, naver, facebook)로 기록
  */
 @Component
 @RequiredArgsConstructor
 public class LoginSuccessHandler implements AuthenticationSuccessHandler {
 
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
 
 
     /**
@@ -46,12 +49,12 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler {
         String role = authentication.getAuthorities().iterator().next().getAuthority();
         Long userId = userRepository.findByUsername(username).getId();
 
-        refreshRepository.deleteByUsername(username);
+        refreshTokenStore.deleteByUsername(username);
 
         String access = jwtUtil.createJwt("access", username, UserRole.valueOf(role), userId, TokenExpiration.ACCESS_TOKEN_EXPIRATION);
         String refresh = jwtUtil.createJwt("refresh", username, UserRole.valueOf(role), userId, REFRESH_TOKEN_EXPIRATION);
 
-        addRefreshEntity(username, refresh);
+        addRefreshEntity(username, userId, refresh, System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION);
 
         response.setContentType("application/json");
         response.setStatus(HttpStatus.OK.value());
@@ -62,9 +65,19 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler {
                 userId, username, access, refresh);
 
         response.getWriter().write(jsonResponse);
+        meterRegistry.counter("todolist.login", "provider", provider(username)).increment();
 
     }
 
+    /**
+     * username = "{provider}_{providerId}"
+     */
+    private String provider(String username) {
+
+        int separator = username.indexOf('_');
+        return separator > 0 ? username.substring(0, separator) : "unknown";
+    }
+
     private Cookie createCookie(String key, String value) {
 
         Cookie cookie = new Cookie(key, value);
@@ -77,13 +90,15 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler {
     }
 
 
-    private void addRefreshEntity(String username, String refresh) {
+    private void addRefreshEntity(String username, Long userId, String refresh, long expiresAt) {
 
         RefreshToken refreshEntity = new RefreshToken();
         refreshEntity.setUsername(username);
         refreshEntity.setRefresh(refresh);
+        refreshEntity.setUserId(userId);
+        refreshEntity.setExpiresAt(expiresAt);
 
-        refreshRepository.save(refreshEntity);
+        refreshTokenStore.save(refreshEntity);
     }
 
 }
@@ -0,0 +1,10 @@
+package com.acoldbottle.todolist.id;
+
+/**
+ * 엔티티 ID 생성기
+ * DB(IDENTITY) 대신 애플리케이션에서 ID 를 만들어서 INSERT 를 batch 로 묶을 수 있게 함
+ */
+public interface IdGenerator {
+
+    long nextId();
+}
@@ -0,0 +1,21 @@
+package com.acoldbottle.todolist.id;
+
+/**
+ * Hibernate 가 직접 생성하는 ID 생성기(TimeOrderedIdentifierGenerator)에서 사용할 IdGenerator 보관
+ * 애플리케이션 시작 시 IdGeneratorConfig 에서 노드 ID 를 설정한 생성기로 교체
+ */
+public final class IdGeneratorHolder {
+
+    private static volatile IdGenerator idGenerator = new SnowflakeIdGenerator(0);
+
+    private IdGeneratorHolder() {
+    }
+
+    public static IdGenerator get() {
+        return idGenerator;
+    }
+
+    public static void set(IdGenerator idGenerator) {
+        IdGeneratorHolder.idGenerator = idGenerator;
+    }
+}
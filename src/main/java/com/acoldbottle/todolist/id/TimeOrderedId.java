@@ -0,0 +1,18 @@
+package com.acoldbottle.todolist.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID 를 IdGenerator(시간 순서 64bit ID)로 생성
+ * IDENTITY 와 달리 INSERT 전에 ID 가 정해지므로 Hibernate 가 INSERT 를 batch 로 묶을 수 있음
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
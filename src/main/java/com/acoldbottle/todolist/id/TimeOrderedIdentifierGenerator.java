@@ -0,0 +1,25 @@
+package com.acoldbottle.todolist.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+/**
+ * @TimeOrderedId 가 붙은 ID 를 IdGeneratorHolder 의 생성기로 발급하는 Hibernate ID 생성기
+ */
+public class TimeOrderedIdentifierGenerator implements IdentifierGenerator {
+
+    public TimeOrderedIdentifierGenerator() {
+    }
+
+    public TimeOrderedIdentifierGenerator(TimeOrderedId config, Member member, CustomIdGeneratorCreationContext context) {
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+
+        return IdGeneratorHolder.get().nextId();
+    }
+}
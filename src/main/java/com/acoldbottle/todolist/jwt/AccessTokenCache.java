@@ -0,0 +1,130 @@
+package com.acoldbottle.todolist.jwt;
+
+import org.springframework.security.core.Authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증이 끝난 access 토큰의 인증 정보를 보관하는 캐시
+ * 같은 토큰으로 반복 요청이 들어오면 서명 검증과 인증 객체 생성을 건너뛴다
+ *
+ * key = 토큰의 SHA-256 digest (원본 토큰은 보관하지 않음)
+ * value = 인증 정보, 토큰 만료 시간(exp)
+ * 최대 크기에 도달하면 만료된 항목부터 정리하고, 그래도 부족하면 임의의 항목을 제거해 여유 공간(10%)을 확보
+ */
+public class AccessTokenCache {
+
+    private final ConcurrentHashMap<String, Entry> entries;
+    private final int maxSize;
+    private final int lowWaterMark; // 정리 후 목표 크기
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public AccessTokenCache(int maxSize) {
+
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.lowWaterMark = maxSize - Math.max(1, maxSize / 10);
+        this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1 << 16));
+    }
+
+    /**
+     * 토큰에 해당하는 인증 정보 조회, 없거나 만료되었으면 null
+     */
+    public Authentication get(String token) {
+
+        String key = digest(token);
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.authentication;
+    }
+
+    /**
+     * 검증이 끝난 토큰의 인증 정보를 만료 시간(exp)까지 보관
+     */
+    public void put(String token, Authentication authentication, long expiresAt) {
+
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(digest(token), new Entry(authentication, expiresAt));
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료된 항목을 먼저 정리하고, 그래도 목표 크기보다 크면 임의의 항목 제거
+     */
+    private void evict() {
+
+        long now = System.currentTimeMillis();
+        entries.forEach((key, entry) -> {
+            if (entry.expiresAt <= now && entries.remove(key, entry)) {
+                evictions.increment();
+            }
+        });
+
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > lowWaterMark && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static String digest(String token) {
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private record Entry(Authentication authentication, long expiresAt) {
+    }
+}
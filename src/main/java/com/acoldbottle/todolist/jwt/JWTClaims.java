@@ -0,0 +1,55 @@
+package com.acoldbottle.todolist.jwt;
+
+import com.acoldbottle.todolist.domain.UserRole;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT 의 클레임을 담는 불변 클래스
+ * JWTUtil.parse() 로 한 번만 파싱한 뒤 필요한 값을 꺼내 쓴다
+ *
+ * category = 토큰 종류 (access, refresh)
+ * username = 사용자 이름
+ * role = 사용자 권한
+ * userId = 사용자 ID
+ * expiration = 만료 시간
+ */
+@Getter
+public final class JWTClaims {
+
+    private final String category;
+    private final String username;
+    private final UserRole role;
+    private final Long userId;
+    private final Date expiration;
+
+    JWTClaims(String category, String username, UserRole role, Long userId, Date expiration) {
+        this.category = category;
+        this.username = username;
+        this.role = role;
+        this.userId = userId;
+        this.expiration = expiration == null ? null : new Date(expiration.getTime());
+    }
+
+    public Date getExpiration() {
+
+        return expiration == null ? null : new Date(expiration.getTime());
+    }
+
+    /**
+     * 토큰 카테고리 일치 여부 체크
+     */
+    public boolean isCategory(String category) {
+
+        return category.equals(this.category);
+    }
+
+    /**
+     * 토큰의 만료여부 체크
+     */
+    public boolean isExpired() {
+
+        return expiration.before(new Date());
+    }
+}
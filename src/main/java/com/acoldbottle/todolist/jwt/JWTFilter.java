@@ -4,27 +4,59 @@ import com.acoldbottle.todolist.domain.UserRole;
 import com.acoldbottle.todolist.dto.UserDTO;
 import com.acoldbottle.todolist.oauth2.CustomOauth2User;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 필터 클래스
  * HTTP 요청에 대한 액세스 토큰을 검증하고 인증 정보를 설정
+ * AccessTokenCache 가 설정되어 있으면 이미 검증한 토큰은 캐시된 인증 정보를 그대로 사용
+ *
+ * 토큰 검증 시간은 todolist.jwt.verify 타이머에 결과별(result = cached, valid, expired, invalid)로 기록
  */
 @Slf4j
-@RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
+    private final AccessTokenCache accessTokenCache; // null 이면 캐시 사용 안 함
+
+    private final Timer cachedTimer;
+    private final Timer validTimer;
+    private final Timer expiredTimer;
+    private final Timer invalidTimer;
+
+    public JWTFilter(JWTUtil jwtUtil) {
+
+        this(jwtUtil, null);
+    }
+
+    public JWTFilter(JWTUtil jwtUtil, AccessTokenCache accessTokenCache) {
+
+        this(jwtUtil, accessTokenCache, Metrics.globalRegistry);
+    }
+
+    public JWTFilter(JWTUtil jwtUtil, AccessTokenCache accessTokenCache, MeterRegistry meterRegistry) {
+
+        this.jwtUtil = jwtUtil;
+        this.accessTokenCache = accessTokenCache;
+        this.cachedTimer = verifyTimer(meterRegistry, "cached");
+        this.validTimer = verifyTimer(meterRegistry, "valid");
+        this.expiredTimer = verifyTimer(meterRegistry, "expired");
+        this.invalidTimer = verifyTimer(meterRegistry, "invalid");
+    }
 
     /**
      * 요청을 필터링하고 JWT 검증
@@ -44,32 +76,49 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        // access 토큰에서 Bearer 분리 후에 토큰 만료 여부 체크
+        // access 토큰에서 Bearer 분리 후에 서명 검증 (한 번만 파싱), 만료 여부 체크
         String accessToken = authorization.split(" ")[1];
+        long startedAt = System.nanoTime();
+
+        // 캐시에 검증된 토큰이 있으면 서명 검증 생략
+        if (accessTokenCache != null) {
+
+            Authentication cached = accessTokenCache.get(accessToken);
+            if (cached != null) {
+
+                record(cachedTimer, startedAt);
+                SecurityContextHolder.getContext().setAuthentication(cached);
+                filterChain.doFilter(request, response);
+                return;
+            }
+        }
+
+        JWTClaims claims;
         try {
 
-            jwtUtil.isExpired(accessToken);
+            claims = jwtUtil.parse(accessToken);
 
         } catch (ExpiredJwtException e) {
 
+            record(expiredTimer, startedAt);
             log.warn("token expired");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return;
         }
 
         // 토큰 카테고리 체크
-        String category = jwtUtil.getCategory(accessToken);
-        if (!category.equals("access")) {
+        if (!claims.isCategory("access")) {
 
+            record(invalidTimer, startedAt);
             log.warn("invalid access token");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return;
         }
 
         // 토큰에서 사용자 정보 추출
-        String username = jwtUtil.getUsername(accessToken);
-        UserRole role = jwtUtil.getRole(accessToken);
-        Long userId = jwtUtil.getUserId(accessToken);
+        String username = claims.getUsername();
+        UserRole role = claims.getRole();
+        Long userId = claims.getUserId();
 
         // 사용자 DTO를 생성하고 CustomOauth2User 생성
         UserDTO userDTO = new UserDTO();
@@ -82,11 +131,30 @@ public class JWTFilter extends OncePerRequestFilter {
         // 인증 토큰 생성
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(customOauth2User, null, customOauth2User.getAuthorities());
 
+        // 검증된 토큰의 인증 정보를 만료 시간까지 캐시
+        if (accessTokenCache != null) {
+
+            accessTokenCache.put(accessToken, authToken, claims.getExpiration().getTime());
+        }
+
+        record(validTimer, startedAt);
+
         // SecurityContextHolder 인증 정보 설정
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
         // 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
-}
 
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+
+        return Timer.builder("todolist.jwt.verify")
+                .description("access 토큰 검증 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static void record(Timer timer, long startedAt) {
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,8 +1,11 @@
 package com.acoldbottle.todolist.jwt;
 
 
-import com.acoldbottle.todolist.repository.RefreshRepository;
+import com.acoldbottle.todolist.domain.RefreshToken;
+import com.acoldbottle.todolist.repository.RefreshTokenStore;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -10,7 +13,6 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.filter.GenericFilterBean;
 
@@ -19,13 +21,26 @@ import java.io.IOException;
 /**
  * 로그아웃 했을때 실행되는 JWT 필터
  * 리프레시 토큰을 검증 후 삭제
+ * 로그아웃 요청 수는 todolist.logout 카운터에 결과별(result = success, bad_request, expired, not_found)로 기록
  */
 @Slf4j
-@RequiredArgsConstructor
 public class JWTLogoutFilter extends GenericFilterBean {
 
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final MeterRegistry meterRegistry;
+
+    public JWTLogoutFilter(JWTUtil jwtUtil, RefreshTokenStore refreshTokenStore) {
+
+        this(jwtUtil, refreshTokenStore, Metrics.globalRegistry);
+    }
+
+    public JWTLogoutFilter(JWTUtil jwtUtil, RefreshTokenStore refreshTokenStore, MeterRegistry meterRegistry) {
+
+        this.jwtUtil = jwtUtil;
+        this.refreshTokenStore = refreshTokenStore;
+        this.meterRegistry = meterRegistry;
+    }
 
     /**
      *  ServletRequest와 ServletResponse를 HttpServletRequest와 HttpServletResponse로 변환하여 doFilter 메서드 호출
@@ -65,50 +80,51 @@ public class JWTLogoutFilter extends GenericFilterBean {
         if (refresh == null) {
 
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            count("bad_request");
             log.error("Refresh token is null.");
             return;
         }
 
-        // 리프레시 토큰 만료 여부 체크
+        // 리프레시 토큰 서명 검증 (한 번만 파싱), 만료 여부 체크
+        JWTClaims claims;
         try {
-            jwtUtil.isExpired(refresh);
+            claims = jwtUtil.parse(refresh);
 
         } catch (ExpiredJwtException e) {
 
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            count("expired");
             log.error("Expired JWT exception: {}", e.getMessage());
             return;
         }
 
         // 리프레시 토큰 카테고리 체크
-        String category = jwtUtil.getCategory(refresh);
-        if (!category.equals("refresh")) {
+        String category = claims.getCategory();
+        if (!claims.isCategory("refresh")) {
 
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            count("bad_request");
             log.error("Invalid token category: {}", category);
             return;
         }
 
-        // Redis에서 리프레시 토큰 존재 여부 체크
-        String username = jwtUtil.getUsername(refresh);
+        // Redis에서 리프레시 토큰 일치 여부 확인 후 삭제 (한 번의 요청으로 처리)
+        String username = claims.getUsername();
         log.info("Extracted username from refresh token: {}", username);
-        Boolean isExists = refreshRepository.existsByUsername(username);
 
-        if (!isExists) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUsername(username);
+        refreshToken.setRefresh(refresh);
+
+        if (!refreshTokenStore.revokeIfMatches(refreshToken)) {
 
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            log.error("Refresh token does not exist in Redis.");
+            count("not_found");
+            log.error("Refresh token does not exist in Redis or does not match.");
             return;
         }
-
-        // Redis에서 리프레시 토큰 삭제
-        refreshRepository.deleteByUsername(username);
         log.info("Deleted username: {}", username);
 
-        // 삭제 후 존재 여부 확인
-        Boolean isExistsAfterDelete = refreshRepository.existsByUsername(username);
-        log.info("Does username exist after deletion? {}", isExistsAfterDelete);
-
         // 리프레시 쿠키 삭제
         Cookie cookie = new Cookie("refresh", null);
         cookie.setMaxAge(0); // 쿠키 만료 설정
@@ -117,5 +133,10 @@ public class JWTLogoutFilter extends GenericFilterBean {
         response.addCookie(cookie); // 쿠키 추가
         response.setStatus(HttpServletResponse.SC_OK); // 성공 응답
         response.getWriter().write("{\"message\": \"Logout successful.\"}"); // 응답 메시지 작성
+        count("success");
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("todolist.logout", "result", result).increment();
     }
 }
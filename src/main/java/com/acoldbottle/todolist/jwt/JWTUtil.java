@@ -1,6 +1,8 @@
 package com.acoldbottle.todolist.jwt;
 
 import com.acoldbottle.todolist.domain.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -17,10 +19,29 @@ import java.util.Date;
 public class JWTUtil {
 
     private final SecretKey secretKey; // JWT 서명에 사용되는 비밀 키
+    private final JwtParser jwtParser; // 시작 시 한 번만 생성하는 파서 (불변, thread-safe)
 
     public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
 
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+    }
+
+    /**
+     * JWT 토큰의 서명을 한 번 검증하고 클레임 추출
+     * 만료된 토큰이면 ExpiredJwtException 발생
+     */
+    public JWTClaims parse(String token) {
+
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        String role = claims.get("role", String.class);
+
+        return new JWTClaims(
+                claims.get("access", String.class),
+                claims.get("username", String.class),
+                role == null ? null : UserRole.valueOf(role),
+                claims.get("userId", Long.class),
+                claims.getExpiration());
     }
 
     /**
@@ -28,14 +49,14 @@ public class JWTUtil {
      */
     public String getUsername(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+        return parse(token).getUsername();
     }
 
     /**
      * JWT 토큰에서 사용자 ID 추출
      */
     public Long getUserId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("userId", Long.class);
+        return parse(token).getUserId();
     }
 
     /**
@@ -43,8 +64,7 @@ public class JWTUtil {
      */
     public UserRole getRole(String token) {
 
-        String roleString = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
-        return UserRole.valueOf(roleString);
+        return parse(token).getRole();
     }
 
     /**
@@ -52,7 +72,7 @@ public class JWTUtil {
      */
     public String getCategory(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("access", String.class);
+        return parse(token).getCategory();
     }
 
     /**
@@ -60,7 +80,7 @@ public class JWTUtil {
      */
     public Boolean isExpired(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return parse(token).isExpired();
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.acoldbottle.todolist.oauth2;
 
+import com.acoldbottle.todolist.dto.AuthenticatedUser;
 import com.acoldbottle.todolist.dto.UserDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
@@ -16,16 +17,18 @@ import java.util.Map;
 public class CustomOauth2User implements OAuth2User {
 
     private final UserDTO userDTO;
+    private final AuthenticatedUser authenticatedUser; // 생성 시 한 번만 만드는 불변 사용자 정보
     private Map<String, Object> attributes; // OAuth2 프로바이더에서 가져온 사용자 속성
 
     public CustomOauth2User(UserDTO userDTO) {
 
         this.userDTO = userDTO;
+        this.authenticatedUser = new AuthenticatedUser(userDTO.getUserId(), userDTO.getUsername(), userDTO.getRole());
     }
 
     public CustomOauth2User(UserDTO userDTO, Map<String, Object> attributes) {
 
-        this.userDTO = userDTO;
+        this(userDTO);
         this.attributes = attributes;
     }
 
@@ -67,4 +70,12 @@ public class CustomOauth2User implements OAuth2User {
         }
         return userDTO.getUserId();
     }
+
+    /**
+     * 컨트롤러에 주입할 불변 사용자 정보 반환
+     */
+    public AuthenticatedUser getAuthenticatedUser() {
+
+        return authenticatedUser;
+    }
 }
@@ -2,9 +2,19 @@ package com.acoldbottle.todolist.repository;
 
 import com.acoldbottle.todolist.domain.TodoCategory;
 import com.acoldbottle.todolist.domain.User;
+import com.acoldbottle.todolist.dto.CategorySummary;
+import com.acoldbottle.todolist.dto.SearchRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,5 +27,60 @@ public interface CategoryRepository extends JpaRepository<TodoCategory, Long> {
 
     Optional<TodoCategory> findByUserAndDueDateAndTitle(User user, LocalDate dueDate, String title);
 
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    @Query("select new com.acoldbottle.todolist.dto.CategorySummary(c.id, c.title, c.dueDate) " +
+            "from TodoCategory c " +
+            "where c.user.id = :userId and c.dueDate = :dueDate " +
+            "order by c.id")
+    List<CategorySummary> findSummariesByUserIdAndDueDate(@Param("userId") Long userId, @Param("dueDate") LocalDate dueDate);
+
+    /**
+     * 기간 내 카테고리를 (마감일, ID) 순으로 커서 다음부터 limit 개 조회 (keyset)
+     * 첫 페이지는 afterDueDate = from, afterId = 0
+     * (user_id, due_date) 인덱스에서 커서 위치로 바로 이동하므로 앞 페이지 수와 관계없이 일정한 비용
+     */
+    @Query("select new com.acoldbottle.todolist.dto.CategorySummary(c.id, c.title, c.dueDate) " +
+            "from TodoCategory c " +
+            "where c.user.id = :userId and c.dueDate between :from and :to " +
+            "and (c.dueDate > :afterDueDate or (c.dueDate = :afterDueDate and c.id > :afterId)) " +
+            "order by c.dueDate, c.id")
+    List<CategorySummary> findSummariesByUserIdAndDueDateBetween(@Param("userId") Long userId,
+                                                                 @Param("from") LocalDate from,
+                                                                 @Param("to") LocalDate to,
+                                                                 @Param("afterDueDate") LocalDate afterDueDate,
+                                                                 @Param("afterId") Long afterId,
+                                                                 Limit limit);
+
+    /**
+     * 검색 인덱스 생성용 -> 카테고리를 ID 순으로 afterId 다음부터 limit 개 조회
+     */
+    @Query("select new com.acoldbottle.todolist.dto.SearchRow(c.user.id, c.id, c.dueDate, c.title) " +
+            "from TodoCategory c where c.id > :afterId order by c.id")
+    List<SearchRow> findSearchRowsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 카테고리 삭제 표시 (UPDATE 한 번, 할일은 CategoryPurgeService 가 나중에 삭제)
+     *
+     * @return 삭제 표시한 카테고리 수 (없거나 이미 삭제되었으면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TodoCategory c set c.deleted = true where c.id = :categoryId and c.deleted = false")
+    int softDeleteById(@Param("categoryId") Long categoryId);
+
+    /**
+     * 삭제 표시된 카테고리 ID 조회 (@SQLRestriction 을 우회하기 위해 native query 사용)
+     */
+    @Query(value = "select category_id from todo_category where deleted = true order by category_id limit :limit", nativeQuery = true)
+    List<Long> findDeletedIds(@Param("limit") int limit);
+
+    /**
+     * 삭제 표시된 카테고리를 실제로 삭제 (할일을 먼저 모두 지운 뒤 호출)
+     * native query 는 변경하는 테이블을 지정해야 2차 캐시 전체가 아닌 todo_category 만 무효화됨
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "todo_category"))
+    @Query(value = "delete from todo_category where category_id in (:categoryIds) and deleted = true", nativeQuery = true)
+    int purgeByIdIn(@Param("categoryIds") Collection<Long> categoryIds);
 }
 
@@ -0,0 +1,106 @@
+package com.acoldbottle.todolist.repository;
+
+import com.acoldbottle.todolist.dto.DailyStats;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 날짜별 할일 통계(daily_stats) 리포지토리
+ * 한 행에 대한 증감은 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 처리 (행이 없으면 생성)
+ */
+@Repository
+public class DailyStatsRepository {
+
+    private static final String ADJUST_SQL =
+            "insert into daily_stats (user_id, due_date, total_count, completed_count) values (?, ?, ?, ?) " +
+            "on duplicate key update total_count = total_count + values(total_count), " +
+            "completed_count = completed_count + values(completed_count)";
+
+    private static final String ADJUST_BY_CATEGORY_SQL =
+            "insert into daily_stats (user_id, due_date, total_count, completed_count) " +
+            "select c.user_id, c.due_date, ?, ? from todo_category c " +
+            "where c.category_id = ? and c.user_id = ? and c.deleted = false " +
+            "on duplicate key update total_count = total_count + values(total_count), " +
+            "completed_count = completed_count + values(completed_count)";
+
+    private static final String RECOMPUTE_SQL =
+            "insert into daily_stats (user_id, due_date, total_count, completed_count) " +
+            "select ?, ?, count(d.id), coalesce(sum(case when d.is_completed then 1 else 0 end), 0) " +
+            "from todo_category c join todo_detail d on d.category_id = c.category_id " +
+            "where c.user_id = ? and c.due_date = ? and c.deleted = false " +
+            "on duplicate key update total_count = values(total_count), completed_count = values(completed_count)";
+
+    private static final String REBUILD_DELETE_SQL = "delete from daily_stats where due_date between ? and ?";
+
+    private static final String REBUILD_INSERT_SQL =
+            "insert into daily_stats (user_id, due_date, total_count, completed_count) " +
+            "select c.user_id, c.due_date, count(d.id), sum(case when d.is_completed then 1 else 0 end) " +
+            "from todo_category c join todo_detail d on d.category_id = c.category_id " +
+            "where c.due_date between ? and ? and c.deleted = false " +
+            "group by c.user_id, c.due_date";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DailyStatsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 할일 수, 완료한 할일 수를 증감 (호출한 트랜잭션 안에서 실행)
+     */
+    public void adjust(Long userId, LocalDate dueDate, long totalDelta, long completedDelta) {
+
+        if (totalDelta == 0 && completedDelta == 0) {
+            return;
+        }
+        jdbcTemplate.update(ADJUST_SQL, userId, dueDate, totalDelta, completedDelta);
+    }
+
+    /**
+     * 카테고리의 마감일 통계를 증감 (마감일을 따로 조회하지 않고 INSERT ... SELECT 한 번)
+     */
+    public void adjustByCategory(Long categoryId, Long userId, long totalDelta, long completedDelta) {
+
+        if (totalDelta == 0 && completedDelta == 0) {
+            return;
+        }
+        jdbcTemplate.update(ADJUST_BY_CATEGORY_SQL, totalDelta, completedDelta, categoryId, userId);
+    }
+
+    /**
+     * 사용자의 해당 날짜 통계를 할일 테이블에서 다시 집계 (일괄 처리처럼 증감을 계산하기 어려운 경우)
+     */
+    public void recompute(Long userId, LocalDate dueDate) {
+
+        jdbcTemplate.update(RECOMPUTE_SQL, userId, dueDate, userId, dueDate);
+    }
+
+    /**
+     * 기간 내 모든 사용자의 통계를 할일 테이블에서 다시 만듦 (어긋난 값 복구용)
+     *
+     * @return 만들어진 통계 행 수
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+
+        jdbcTemplate.update(REBUILD_DELETE_SQL, from, to);
+        return jdbcTemplate.update(REBUILD_INSERT_SQL, from, to);
+    }
+
+    /**
+     * 사용자의 기간 내 날짜별 통계 조회 (기본 키 범위 조회)
+     */
+    public List<DailyStats> findByUserIdAndDueDateBetween(Long userId, LocalDate from, LocalDate to) {
+
+        return jdbcTemplate.query(
+                "select due_date, total_count, completed_count from daily_stats " +
+                "where user_id = ? and due_date between ? and ? order by due_date",
+                (rs, rowNum) -> {
+                    LocalDate dueDate = rs.getObject("due_date", LocalDate.class);
+                    return new DailyStats(dueDate, dueDate, rs.getLong("total_count"), rs.getLong("completed_count"));
+                },
+                userId, from, to);
+    }
+}
@@ -2,9 +2,22 @@ package com.acoldbottle.todolist.repository;
 
 import com.acoldbottle.todolist.domain.TodoCategory;
 import com.acoldbottle.todolist.domain.TodoDetail;
+import com.acoldbottle.todolist.dto.DetailCounts;
+import com.acoldbottle.todolist.dto.DetailDTO;
+import com.acoldbottle.todolist.dto.SearchRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * TodoDetail 리포지토리
@@ -13,5 +26,88 @@ public interface DetailRepository extends JpaRepository<TodoDetail, Long> {
 
     List<TodoDetail> findByTodoCategory(TodoCategory todoCategory);
 
-    void deleteByTodoCategory(TodoCategory todoCategory);
+    /**
+     * 삭제되지 않은 카테고리의 할일을 카테고리, 사용자와 함께 조회
+     * 삭제 표시된 카테고리의 할일은 이미 통계에서 빠졌으므로 수정, 삭제 대상에서 제외
+     */
+    @Query("select d from TodoDetail d join fetch d.todoCategory c join fetch c.user " +
+            "where d.id = :detailId and c.deleted = false")
+    Optional<TodoDetail> findActiveById(@Param("detailId") Long detailId);
+
+    /**
+     * 사용자의 해당 날짜 카테고리에 속한 할일 전체를 한 번에 조회 (소유자 조건 포함)
+     */
+    @Query("select new com.acoldbottle.todolist.dto.DetailDTO(d.id, d.description, d.isCompleted, c.id) " +
+            "from TodoDetail d join d.todoCategory c " +
+            "where c.user.id = :userId and c.dueDate = :dueDate and c.deleted = false " +
+            "order by d.id")
+    List<DetailDTO> findDtosByUserIdAndDueDate(@Param("userId") Long userId, @Param("dueDate") LocalDate dueDate);
+
+    /**
+     * 카테고리의 할일을 ID 순으로 afterId 다음부터 limit 개 조회 (keyset, 첫 페이지는 afterId = 0)
+     */
+    @Query("select new com.acoldbottle.todolist.dto.DetailDTO(d.id, d.description, d.isCompleted, d.todoCategory.id) " +
+            "from TodoDetail d " +
+            "where d.todoCategory.id = :categoryId and d.id > :afterId " +
+            "order by d.id")
+    List<DetailDTO> findDtosByCategoryIdAfter(@Param("categoryId") Long categoryId, @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * 카테고리의 할일 수, 완료한 할일 수 (카테고리 삭제 시 통계에서 빼기 위해 사용)
+     */
+    @Query("select new com.acoldbottle.todolist.dto.DetailCounts(count(d), coalesce(sum(case when d.isCompleted = true then 1L else 0L end), 0L)) " +
+            "from TodoDetail d where d.todoCategory.id = :categoryId")
+    DetailCounts countByCategoryId(@Param("categoryId") Long categoryId);
+
+    /**
+     * 검색 인덱스 생성용 -> 삭제되지 않은 카테고리의 할일을 ID 순으로 afterId 다음부터 limit 개 조회
+     */
+    @Query("select new com.acoldbottle.todolist.dto.SearchRow(c.user.id, c.id, d.id, c.dueDate, d.description) " +
+            "from TodoDetail d join d.todoCategory c " +
+            "where d.id > :afterId and c.deleted = false " +
+            "order by d.id")
+    List<SearchRow> findSearchRowsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("select d.id from TodoDetail d where d.todoCategory.id = :categoryId and d.id in :ids")
+    List<Long> findIdsByCategoryIdAndIdIn(@Param("categoryId") Long categoryId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TodoDetail d set d.isCompleted = :isCompleted, d.modSeq = :modSeq where d.todoCategory.id = :categoryId and d.id in :ids")
+    int updateCompletionByCategoryIdAndIdIn(@Param("categoryId") Long categoryId, @Param("ids") Collection<Long> ids,
+                                            @Param("isCompleted") boolean isCompleted, @Param("modSeq") long modSeq);
+
+    /**
+     * 할일 완료 여부만 변경 (엔티티를 로딩하지 않고 UPDATE 한 번)
+     * 소유자 조건(user_id)을 포함하고, 삭제 표시된 카테고리의 할일이거나 이미 같은 값이면 변경하지 않음
+     * mod_seq 는 같은 트랜잭션에서 SyncRepository.advanceSeq() 로 올린 사용자의 순번
+     *
+     * @return 변경된 행 수 (0 = 할일이 없거나 이미 같은 값)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "todo_detail"))
+    @Query(value = "update todo_detail set is_completed = :isCompleted, " +
+            "mod_seq = (select s.last_seq from sync_state s where s.user_id = :userId) " +
+            "where id = :detailId and category_id = :categoryId and user_id = :userId and is_completed <> :isCompleted " +
+            "and exists (select 1 from todo_category c where c.category_id = :categoryId and c.deleted = false)",
+            nativeQuery = true)
+    int updateCompletion(@Param("detailId") Long detailId, @Param("categoryId") Long categoryId,
+                         @Param("userId") Long userId, @Param("isCompleted") boolean isCompleted);
+
+    @Query("select count(d) > 0 from TodoDetail d join d.todoCategory c " +
+            "where d.id = :detailId and c.id = :categoryId and d.userId = :userId and c.deleted = false")
+    boolean existsByIdAndCategoryIdAndUserId(@Param("detailId") Long detailId, @Param("categoryId") Long categoryId, @Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from TodoDetail d where d.todoCategory.id = :categoryId and d.id in :ids")
+    int deleteByCategoryIdAndIdIn(@Param("categoryId") Long categoryId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 삭제 표시된 카테고리의 할일을 최대 limit 개 삭제 (짧은 트랜잭션으로 나눠서 삭제하기 위해 LIMIT 사용)
+     *
+     * @return 삭제한 할일 수, limit 보다 작으면 남은 할일 없음
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "todo_detail"))
+    @Query(value = "delete from todo_detail where category_id in (:categoryIds) limit :limit", nativeQuery = true)
+    int purgeByCategoryIdIn(@Param("categoryIds") Collection<Long> categoryIds, @Param("limit") int limit);
 }
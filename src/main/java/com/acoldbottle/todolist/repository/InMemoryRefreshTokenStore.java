@@ -0,0 +1,170 @@
+package com.acoldbottle.todolist.repository;
+
+import com.acoldbottle.todolist.domain.RefreshToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.acoldbottle.todolist.jwt.TokenExpiration.REFRESH_TOKEN_EXPIRATION;
+
+/**
+ * Refresh 토큰 메모리 저장소
+ * spring.jwt.refresh.store=memory 일 때 사용 (서버 한 대로 운영하는 경우, 테스트)
+ *
+ * 토큰은 ConcurrentHashMap 에 보관하고, 만료는 hashed timing wheel 로 처리
+ * -> 1분마다 현재 칸(bucket)에 들어있는 항목만 확인해서 만료된 토큰 삭제
+ * 조회할 때도 만료 시간을 확인하므로 wheel 이 돌기 전에 만료된 토큰이 보이지 않음
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "spring.jwt.refresh", name = "store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore, DisposableBean {
+
+    private static final long TICK_MS = 60 * 1000L; // wheel 한 칸 = 1분
+    private static final int WHEEL_SIZE = 4096; // 2의 거듭제곱, 한 바퀴 = 약 68시간
+
+    private final ConcurrentHashMap<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final Set<String>[] wheel; // 칸마다 만료 예정인 username
+    private final ScheduledExecutorService ticker;
+    private long lastTick; // ticker 스레드에서만 사용
+
+    @SuppressWarnings("unchecked")
+    public InMemoryRefreshTokenStore() {
+
+        wheel = new Set[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+
+        lastTick = System.currentTimeMillis() / TICK_MS;
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Boolean existsByUsername(String username) {
+        return find(username) != null;
+    }
+
+    @Override
+    public void deleteByUsername(String username) {
+        tokens.remove(username);
+    }
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+
+        long expiresAt = refreshToken.getExpiresAt() != null ? refreshToken.getExpiresAt() : System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION;
+        Entry entry = new Entry(refreshToken, expiresAt);
+        tokens.put(refreshToken.getUsername(), entry);
+
+        // 칸은 Set 이므로 같은 사용자가 반복 저장해도 wheel 이 커지지 않음
+        wheel[bucket(entry)].add(refreshToken.getUsername());
+    }
+
+    @Override
+    public boolean revokeIfMatches(RefreshToken refreshToken) {
+
+        Entry entry = find(refreshToken.getUsername());
+        return entry != null
+                && entry.token.getRefresh().equals(refreshToken.getRefresh())
+                && tokens.remove(refreshToken.getUsername(), entry);
+    }
+
+    @Override
+    public long deleteAllByUsername(Collection<String> usernames) {
+
+        long deleted = 0;
+        for (String username : usernames) {
+            if (tokens.remove(username) != null) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public void destroy() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * 만료되지 않은 항목 조회, 만료되었으면 삭제하고 null
+     */
+    private Entry find(String username) {
+
+        Entry entry = tokens.get(username);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            tokens.remove(username, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 지난 tick 부터 현재 tick 까지 wheel 을 돌면서 만료된 항목 삭제
+     * 아직 만료되지 않은 항목(다음 바퀴)은 남겨두고, 삭제되었거나 다른 칸으로 옮겨간 항목은 이 칸에서 제거
+     */
+    private void advance() {
+
+        try {
+            long now = System.currentTimeMillis();
+            long currentTick = now / TICK_MS;
+            int expired = 0;
+
+            for (long tick = lastTick + 1; tick <= currentTick && tick <= lastTick + WHEEL_SIZE; tick++) {
+
+                int bucket = bucket(tick);
+                Iterator<String> iterator = wheel[bucket].iterator();
+                while (iterator.hasNext()) {
+
+                    String username = iterator.next();
+                    Entry entry = tokens.get(username);
+
+                    if (entry == null || bucket(entry) != bucket) {
+                        iterator.remove();
+                    } else if (entry.expiresAt <= now) {
+                        iterator.remove();
+                        if (tokens.remove(username, entry)) {
+                            expired++;
+                        }
+                    }
+                }
+            }
+
+            lastTick = currentTick;
+            if (expired > 0) {
+                log.debug("Expired {} refresh tokens", expired);
+            }
+        } catch (Exception e) {
+            log.error("[refresh token expiry Error] {}", e.getMessage());
+        }
+    }
+
+    private static int bucket(Entry entry) {
+        return bucket(entry.expiresAt / TICK_MS);
+    }
+
+    private static int bucket(long tick) {
+        return (int) (tick & (WHEEL_SIZE - 1));
+    }
+
+    private record Entry(RefreshToken token, long expiresAt) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.acoldbottle.todolist.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 할일 버전 메모리 저장소
+ * todolist.etag.store=memory 일 때 사용 (서버 한 대로 운영하는 경우, 테스트)
+ */
+@Repository
+@ConditionalOnProperty(prefix = "todolist.etag", name = "store", havingValue = "memory")
+public class InMemoryTodoVersionStore implements TodoVersionStore {
+
+    private final ConcurrentHashMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public long current(Long userId) {
+        return versionOf(userId).get();
+    }
+
+    @Override
+    public long bump(Long userId) {
+        return versionOf(userId).incrementAndGet();
+    }
+
+    private AtomicLong versionOf(Long userId) {
+        return versions.computeIfAbsent(userId, id -> new AtomicLong(System.currentTimeMillis()));
+    }
+}
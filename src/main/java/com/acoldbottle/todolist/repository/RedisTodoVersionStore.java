@@ -0,0 +1,70 @@
+package com.acoldbottle.todolist.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 사용자별 할일 버전 Redis 저장소
+ * todolist.etag.store=redis 일 때 사용 (기본값)
+ *
+ * "todo_version:{userId}" 키 하나에 버전 저장, 30일 동안 변경이 없으면 만료 (다시 조회하면 현재 시각으로 시작)
+ * 조회, 증가 모두 스크립트로 Redis 왕복 1번에 처리
+ */
+@Repository
+@ConditionalOnProperty(prefix = "todolist.etag", name = "store", havingValue = "redis", matchIfMissing = true)
+public class RedisTodoVersionStore implements TodoVersionStore {
+
+    private static final String KEY_PREFIX = "todo_version:";
+    private static final String TTL_SECONDS = String.valueOf(30 * 24 * 60 * 60);
+
+    /**
+     * 버전 조회, 없으면 ARGV[1](현재 시각)으로 생성
+     */
+    private static final RedisScript<Long> CURRENT_SCRIPT = RedisScript.of("""
+            local version = redis.call('GET', KEYS[1])
+            if version then
+                return tonumber(version)
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            return tonumber(ARGV[1])
+            """, Long.class);
+
+    /**
+     * 버전 증가, 없으면 ARGV[1](현재 시각)으로 생성
+     */
+    private static final RedisScript<Long> BUMP_SCRIPT = RedisScript.of("""
+            local version
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                version = redis.call('INCR', KEYS[1])
+            else
+                version = tonumber(ARGV[1])
+                redis.call('SET', KEYS[1], version)
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return version
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisTodoVersionStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long current(Long userId) {
+        return redisTemplate.execute(CURRENT_SCRIPT, List.of(key(userId)), String.valueOf(System.currentTimeMillis()), TTL_SECONDS);
+    }
+
+    @Override
+    public long bump(Long userId) {
+        return redisTemplate.execute(BUMP_SCRIPT, List.of(key(userId)), String.valueOf(System.currentTimeMillis()), TTL_SECONDS);
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -1,15 +1,68 @@
 package com.acoldbottle.todolist.repository;
 
 import com.acoldbottle.todolist.domain.RefreshToken;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.acoldbottle.todolist.jwt.TokenExpiration.REFRESH_TOKEN_EXPIRATION;
+
 /**
  * Refresh 토큰 리포지토리
- * Redis 로 관리
+ * Redis 로 관리 (spring.jwt.refresh.store=redis, 기본값)
+ *
+ * 사용자마다 "refresh_token:{username}" 키 하나에 저장하고, 저장할 때 TTL(토큰 만료 시간까지)을 설정
+ * -> 키가 클러스터 전체에 분산되고, 만료된 토큰은 Redis 가 직접 삭제
  */
+@Slf4j
 @Repository
-public class RefreshRepository {
+@Timed("todolist.refresh.store")
+@ConditionalOnProperty(prefix = "spring.jwt.refresh", name = "store", havingValue = "redis", matchIfMissing = true)
+public class RefreshRepository implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh_token:";
+    private static final String LEGACY_HASH_KEY = "refresh_token"; // 이전 버전에서 모든 토큰을 담던 hash
+    private static final Duration TTL = Duration.ofMillis(REFRESH_TOKEN_EXPIRATION);
+    private static final int PIPELINE_BATCH_SIZE = 1000;
+    private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    /**
+     * 저장된 토큰이 요청한 토큰과 같을 때만 삭제 (서버에서 한 번에 실행)
+     * 바이너리 값은 SHA-256 부분(ARGV[1])을, 이전 JSON 값은 refresh 필드(ARGV[2])를 비교
+     * 1 = 삭제, 0 = 토큰 없음, -1 = 토큰 불일치
+     */
+    private static final RedisScript<Long> REVOKE_SCRIPT = RedisScript.of("""
+            local stored = redis.call('GET', KEYS[1])
+            if not stored then
+                return 0
+            end
+            local matched
+            if string.byte(stored, 1) == 123 then
+                matched = cjson.decode(stored).refresh == ARGV[2]
+            else
+                matched = string.byte(stored, 1) == 1 and string.sub(stored, 2, 33) == ARGV[1]
+            end
+            if not matched then
+                return -1
+            end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
 
     private final RedisTemplate<String, RefreshToken> redisTemplate;
 
@@ -17,19 +70,124 @@ public class RefreshRepository {
         this.redisTemplate = redisTemplate;
     }
 
-    // username을 기준으로 존재 여부 확인
+    @Override
     public Boolean existsByUsername(String username) {
-        return redisTemplate.opsForHash().hasKey("refresh_token", username);
+        return redisTemplate.hasKey(key(username));
     }
 
-    // username을 기준으로 삭제
+    @Override
     public void deleteByUsername(String username) {
-        redisTemplate.opsForHash().delete("refresh_token", username);
+        redisTemplate.delete(key(username));
     }
 
-    // 리프레시 엔티티 저장 (추가 기능)
+    @Override
     public void save(RefreshToken refreshToken) {
-        redisTemplate.opsForHash().put("refresh_token", refreshToken.getUsername(), refreshToken);
+        redisTemplate.opsForValue().set(key(refreshToken.getUsername()), refreshToken, ttl(refreshToken));
+    }
+
+    /**
+     * 저장된 토큰이 refreshToken 과 일치하면 삭제 (Redis 왕복 1번, check-then-act 경쟁 없음)
+     *
+     * @return 토큰이 존재하고 일치해서 삭제했으면 true
+     */
+    @Override
+    public boolean revokeIfMatches(RefreshToken refreshToken) {
+
+        Long result = redisTemplate.execute(REVOKE_SCRIPT, RedisSerializer.byteArray(), RESULT_SERIALIZER,
+                List.of(key(refreshToken.getUsername())),
+                RefreshTokenRedisSerializer.hash(refreshToken.getRefresh()),
+                refreshToken.getRefresh().getBytes(StandardCharsets.UTF_8));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 여러 사용자의 토큰을 pipeline 으로 한 번에 삭제 (관리자 일괄 로그아웃)
+     * 클러스터에서 키가 다른 슬롯에 있을 수 있으므로 DEL 을 키마다 보내고 묶어서 전송
+     *
+     * @return 실제로 삭제된 토큰 수
+     */
+    @Override
+    public long deleteAllByUsername(Collection<String> usernames) {
+
+        long deleted = 0;
+        List<String> keys = new ArrayList<>(PIPELINE_BATCH_SIZE);
+
+        for (String username : usernames) {
+
+            keys.add(key(username));
+            if (keys.size() == PIPELINE_BATCH_SIZE) {
+                deleted += deletePipelined(keys);
+                keys.clear();
+            }
+        }
+
+        if (!keys.isEmpty()) {
+            deleted += deletePipelined(keys);
+        }
+        return deleted;
+    }
+
+    /**
+     * 이전 버전의 "refresh_token" hash 에 남아있는 토큰을 사용자별 키로 옮기고 hash 에서 삭제
+     * 이미 사용자별 키가 있으면(새로 로그인한 경우) 덮어쓰지 않음
+     * hash 에는 저장 시각이 없으므로 TTL 은 최대값(14일)으로 설정
+     *
+     * @return 옮긴 토큰 수
+     */
+    public long migrateLegacyHash() {
+
+        long migrated = 0;
+        ScanOptions options = ScanOptions.scanOptions().count(500).build();
+
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(LEGACY_HASH_KEY, options)) {
+
+            while (cursor.hasNext()) {
+
+                Map.Entry<Object, Object> entry = cursor.next();
+                String username = (String) entry.getKey();
+
+                Boolean isSet = redisTemplate.opsForValue().setIfAbsent(key(username), (RefreshToken) entry.getValue(), TTL);
+                if (Boolean.TRUE.equals(isSet)) {
+                    migrated++;
+                }
+                redisTemplate.opsForHash().delete(LEGACY_HASH_KEY, username);
+            }
+        }
+
+        log.info("Migrated {} refresh tokens from legacy hash", migrated);
+        return migrated;
     }
 
+    private long deletePipelined(List<String> keys) {
+
+        RedisSerializer<String> keySerializer = RedisSerializer.string();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+
+            for (String key : keys) {
+                connection.keyCommands().del(keySerializer.serialize(key));
+            }
+            return null;
+        });
+
+        return results.stream()
+                .filter(Long.class::isInstance)
+                .mapToLong(Long.class::cast)
+                .sum();
+    }
+
+    /**
+     * 토큰 만료 시간까지 남은 시간, 만료 시간이 없으면 최대값(14일)
+     */
+    private Duration ttl(RefreshToken refreshToken) {
+
+        if (refreshToken.getExpiresAt() == null) {
+            return TTL;
+        }
+        long remaining = refreshToken.getExpiresAt() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(remaining, 1L));
+    }
+
+    private String key(String username) {
+        return KEY_PREFIX + username;
+    }
 }
@@ -0,0 +1,92 @@
+package com.acoldbottle.todolist.repository;
+
+import com.acoldbottle.todolist.domain.RefreshToken;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * RefreshToken 을 Redis 에 저장할 때 사용하는 바이너리 직렬화
+ * 토큰 원문(JWT)과 사용자 이름(key 에 포함) 대신 고정 크기 값만 저장
+ *
+ * 버전 1 (49 byte)
+ * [0]      버전 (1)
+ * [1..32]  refresh 토큰의 SHA-256
+ * [33..40] 사용자 ID
+ * [41..48] 만료 시간 (epoch millis)
+ *
+ * 이전 버전의 JSON 값('{' 로 시작)도 읽을 수 있음 -> 다음 로그인/재발급 때 바이너리로 다시 저장됨
+ */
+public class RefreshTokenRedisSerializer implements RedisSerializer<RefreshToken> {
+
+    public static final byte VERSION = 1;
+    public static final int HASH_LENGTH = 32;
+    private static final int LENGTH = 1 + HASH_LENGTH + Long.BYTES + Long.BYTES;
+
+    private final Jackson2JsonRedisSerializer<RefreshToken> legacySerializer = new Jackson2JsonRedisSerializer<>(RefreshToken.class);
+
+    @Override
+    public byte[] serialize(RefreshToken refreshToken) throws SerializationException {
+
+        if (refreshToken == null) {
+            return null;
+        }
+
+        byte[] refreshHash = refreshToken.getRefreshHash() != null ? refreshToken.getRefreshHash() : hash(refreshToken.getRefresh());
+
+        return ByteBuffer.allocate(LENGTH)
+                .put(VERSION)
+                .put(refreshHash)
+                .putLong(refreshToken.getUserId() == null ? 0L : refreshToken.getUserId())
+                .putLong(refreshToken.getExpiresAt() == null ? 0L : refreshToken.getExpiresAt())
+                .array();
+    }
+
+    @Override
+    public RefreshToken deserialize(byte[] bytes) throws SerializationException {
+
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        // 이전 버전의 JSON 값
+        if (bytes[0] == '{') {
+            return legacySerializer.deserialize(bytes);
+        }
+
+        if (bytes[0] != VERSION || bytes.length != LENGTH) {
+            throw new SerializationException("Unknown refresh token format, version=" + bytes[0] + ", length=" + bytes.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, LENGTH - 1);
+        byte[] refreshHash = new byte[HASH_LENGTH];
+        buffer.get(refreshHash);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setRefreshHash(refreshHash);
+        refreshToken.setUserId(buffer.getLong());
+        refreshToken.setExpiresAt(buffer.getLong());
+        return refreshToken;
+    }
+
+    /**
+     * refresh 토큰의 SHA-256
+     */
+    public static byte[] hash(String refresh) {
+
+        if (refresh == null) {
+            throw new SerializationException("Refresh token is null");
+        }
+
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(refresh.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
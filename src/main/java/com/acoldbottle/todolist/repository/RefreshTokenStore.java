@@ -0,0 +1,30 @@
+package com.acoldbottle.todolist.repository;
+
+import com.acoldbottle.todolist.domain.RefreshToken;
+
+import java.util.Collection;
+
+/**
+ * Refresh 토큰 저장소
+ * spring.jwt.refresh.store 설정에 따라 구현체 선택
+ *
+ * redis (기본값) => RefreshRepository, 여러 서버가 토큰을 공유
+ * memory => InMemoryRefreshTokenStore, 서버 한 대로 운영할 때 Redis 없이 사용
+ */
+public interface RefreshTokenStore {
+
+    // username을 기준으로 존재 여부 확인
+    Boolean existsByUsername(String username);
+
+    // username을 기준으로 삭제
+    void deleteByUsername(String username);
+
+    // 리프레시 엔티티 저장 (토큰 만료 시간까지, 없으면 14일)
+    void save(RefreshToken refreshToken);
+
+    // 저장된 토큰이 refreshToken 과 일치하면 삭제, 삭제했으면 true
+    boolean revokeIfMatches(RefreshToken refreshToken);
+
+    // 여러 사용자의 토큰을 한 번에 삭제, 실제로 삭제된 토큰 수 반환
+    long deleteAllByUsername(Collection<String> usernames);
+}
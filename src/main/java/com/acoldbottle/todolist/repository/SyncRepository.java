@@ -0,0 +1,133 @@
+package com.acoldbottle.todolist.repository;
+
+import com.acoldbottle.todolist.dto.SyncChanges;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 변경 동기화 리포지토리 (sync_state, todo_tombstone, mod_seq 컬럼)
+ *
+ * 사용자별 순번은 sync_state 행을 증가시켜 발급 -> 행 잠금이 커밋까지 유지되므로
+ * 같은 사용자의 변경은 순번 순서대로 커밋되고, 작은 순번이 나중에 보이는 경우가 없음
+ */
+@Repository
+public class SyncRepository {
+
+    public static final String CATEGORY = "category";
+    public static final String DETAIL = "detail";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyncRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 사용자의 다음 순번 발급 (호출한 트랜잭션 안에서 실행, 한 트랜잭션의 변경은 같은 순번 사용)
+     */
+    public long nextSeq(Long userId) {
+
+        advanceSeq(userId);
+        return jdbcTemplate.queryForObject("select last_seq from sync_state where user_id = ?", Long.class, userId);
+    }
+
+    /**
+     * 순번만 증가시키고 값은 읽지 않음
+     * 같은 트랜잭션의 UPDATE 에서 (select last_seq from sync_state where user_id = ?) 로 사용
+     */
+    public void advanceSeq(Long userId) {
+
+        jdbcTemplate.update("insert into sync_state (user_id, last_seq) values (?, 1) " +
+                "on duplicate key update last_seq = last_seq + 1", userId);
+    }
+
+    public long tombstoneFloor(Long userId) {
+
+        List<Long> floor = jdbcTemplate.queryForList("select tombstone_floor from sync_state where user_id = ?", Long.class, userId);
+        return floor.isEmpty() ? 0L : floor.get(0);
+    }
+
+    /**
+     * 삭제 기록 저장
+     *
+     * @param type category or detail
+     */
+    public void addTombstones(Long userId, long seq, String type, Collection<Long> ids) {
+
+        if (ids.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("insert into todo_tombstone (user_id, seq, entity_type, entity_id, created_at) values (?, ?, ?, ?, ?)",
+                ids.stream().map(id -> new Object[]{userId, seq, type, id, now}).toList());
+    }
+
+    /**
+     * 커서 이후 추가, 수정된 카테고리 (user_id, mod_seq 인덱스)
+     * 삭제 표시된 카테고리는 삭제 기록으로 전달하므로 제외
+     */
+    public List<SyncChanges.Category> findCategoriesAfter(Long userId, long cursor, int limit) {
+
+        return jdbcTemplate.query(
+                "select category_id, title, due_date, mod_seq from todo_category " +
+                "where user_id = ? and mod_seq > ? and deleted = false " +
+                "order by mod_seq, category_id limit ?",
+                (rs, rowNum) -> new SyncChanges.Category(rs.getLong("category_id"), rs.getString("title"),
+                        rs.getObject("due_date", LocalDate.class), rs.getLong("mod_seq")),
+                userId, cursor, limit);
+    }
+
+    /**
+     * 커서 이후 추가, 수정된 할일 (user_id, mod_seq 인덱스)
+     */
+    public List<SyncChanges.Detail> findDetailsAfter(Long userId, long cursor, int limit) {
+
+        return jdbcTemplate.query(
+                "select id, category_id, description, is_completed, mod_seq from todo_detail " +
+                "where user_id = ? and mod_seq > ? " +
+                "order by mod_seq, id limit ?",
+                (rs, rowNum) -> new SyncChanges.Detail(rs.getLong("id"), rs.getLong("category_id"), rs.getString("description"),
+                        rs.getBoolean("is_completed"), rs.getLong("mod_seq")),
+                userId, cursor, limit);
+    }
+
+    /**
+     * 커서 이후 삭제 기록 (기본 키 범위 조회)
+     */
+    public List<SyncChanges.Deleted> findTombstonesAfter(Long userId, long cursor, int limit) {
+
+        return jdbcTemplate.query(
+                "select entity_type, entity_id, seq from todo_tombstone " +
+                "where user_id = ? and seq > ? " +
+                "order by seq, entity_type, entity_id limit ?",
+                (rs, rowNum) -> new SyncChanges.Deleted(rs.getString("entity_type"), rs.getLong("entity_id"), rs.getLong("seq")),
+                userId, cursor, limit);
+    }
+
+    /**
+     * cutoff 이전 삭제 기록을 정리하기 전에, 사용자별로 정리될 가장 큰 순번을 tombstone_floor 에 기록
+     */
+    public int raiseTombstoneFloors(LocalDateTime cutoff) {
+
+        Timestamp before = Timestamp.valueOf(cutoff);
+        return jdbcTemplate.update(
+                "update sync_state s set tombstone_floor = " +
+                "(select max(t.seq) from todo_tombstone t where t.user_id = s.user_id and t.created_at < ?) " +
+                "where exists (select 1 from todo_tombstone t where t.user_id = s.user_id and t.created_at < ?)",
+                before, before);
+    }
+
+    /**
+     * cutoff 이전 삭제 기록을 최대 limit 개 삭제
+     */
+    public int deleteTombstonesBefore(LocalDateTime cutoff, int limit) {
+
+        return jdbcTemplate.update("delete from todo_tombstone where created_at < ? limit ?", Timestamp.valueOf(cutoff), limit);
+    }
+}
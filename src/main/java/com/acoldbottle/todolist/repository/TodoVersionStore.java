@@ -0,0 +1,24 @@
+package com.acoldbottle.todolist.repository;
+
+/**
+ * 사용자별 할일 버전 저장소 (ETag 에 사용)
+ * 카테고리, 할일이 변경될 때마다 버전을 올림
+ *
+ * 구현체
+ * - RedisTodoVersionStore (todolist.etag.store=redis, 기본값) -> 서버 여러 대가 같은 버전을 공유
+ * - InMemoryTodoVersionStore (todolist.etag.store=memory) -> 서버 한 대로 운영하는 경우, 테스트
+ *
+ * 버전이 없으면 현재 시각(ms)으로 시작 -> 저장소가 초기화되어도 이전에 발급한 ETag 와 겹치지 않음
+ */
+public interface TodoVersionStore {
+
+    /**
+     * 현재 버전 조회 (없으면 생성)
+     */
+    long current(Long userId);
+
+    /**
+     * 버전을 올리고 올린 버전 반환
+     */
+    long bump(Long userId);
+}
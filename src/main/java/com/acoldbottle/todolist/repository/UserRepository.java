@@ -1,12 +1,19 @@
 package com.acoldbottle.todolist.repository;
 
 import com.acoldbottle.todolist.domain.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 /**
  * 사용자 리포지토리
  */
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * 로그인할 때마다 호출되므로 쿼리 캐시 사용 (user 테이블이 변경되면 Hibernate 가 자동으로 무효화)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     User findByUsername(String username);
 }
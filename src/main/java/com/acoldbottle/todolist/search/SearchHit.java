@@ -0,0 +1,22 @@
+package com.acoldbottle.todolist.search;
+
+import java.time.LocalDate;
+
+/**
+ * 검색 결과 항목 (인덱스에 저장되는 문서)
+ *
+ * type = category or detail
+ * id = 카테고리 ID or 할일 ID
+ * categoryId = 카테고리 ID
+ * dueDate = 카테고리 마감일
+ * text = 카테고리 제목 or 할일 내용
+ */
+public record SearchHit(String type, Long id, Long categoryId, LocalDate dueDate, String text) {
+
+    public static final String CATEGORY = "category";
+    public static final String DETAIL = "detail";
+
+    boolean isCategory() {
+        return CATEGORY.equals(type);
+    }
+}
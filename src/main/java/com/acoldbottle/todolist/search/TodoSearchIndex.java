@@ -0,0 +1,169 @@
+package com.acoldbottle.todolist.search;
+
+import com.acoldbottle.todolist.dto.SearchRow;
+import com.acoldbottle.todolist.event.TodoChangeEvent;
+import com.acoldbottle.todolist.repository.CategoryRepository;
+import com.acoldbottle.todolist.repository.DetailRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카테고리 제목, 할일 내용 검색용 인메모리 역색인 (사용자별)
+ * ====================================================
+ * search() => 검색어의 모든 단어를 접두어로 포함하는 카테고리, 할일 조회
+ * onTodoChange() => 커밋된 변경(TodoChangeEvent)을 인덱스에 반영
+ * rebuild() => DB 에서 전체 인덱스를 다시 만듦 (애플리케이션 시작 시)
+ * ====================================================
+ * 서버마다 자신이 처리한 변경만 반영하므로 서버 한 대로 운영하거나, 주기적으로 rebuild 해야 함
+ */
+@Slf4j
+@Component
+public class TodoSearchIndex {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final CategoryRepository categoryRepository;
+    private final DetailRepository detailRepository;
+    private final boolean rebuildOnStartup;
+
+    private volatile Map<Long, UserSearchIndex> indexes = new ConcurrentHashMap<>();
+
+    // rebuild 중에 들어온 변경 -> 새 인덱스로 교체한 뒤 다시 적용
+    private final Object rebuildLock = new Object();
+    private List<TodoChangeEvent> changesDuringRebuild;
+
+    public TodoSearchIndex(CategoryRepository categoryRepository,
+                           DetailRepository detailRepository,
+                           @Value("${todolist.search.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+
+        this.categoryRepository = categoryRepository;
+        this.detailRepository = detailRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * @param query 검색어 (공백 등으로 나뉜 단어는 모두 포함해야 함, 각 단어는 접두어 일치)
+     * @param limit 최대 결과 수 (1 ~ 100)
+     * @return 최신순 검색 결과
+     */
+    public List<SearchHit> search(Long userId, String query, Integer limit) {
+
+        Set<String> tokens = Tokenizer.tokenize(query);
+        UserSearchIndex index = indexes.get(userId);
+        if (tokens.isEmpty() || index == null) {
+            return List.of();
+        }
+
+        int maxResults = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return index.search(tokens, maxResults);
+    }
+
+    /**
+     * 인덱스가 있는 사용자 수
+     */
+    public int getUserCount() {
+        return indexes.size();
+    }
+
+    @TransactionalEventListener
+    public void onTodoChange(TodoChangeEvent event) {
+
+        synchronized (rebuildLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        }
+        apply(indexes, event);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 카테고리, 할일을 ID 순으로 1000개씩 읽어서 새 인덱스를 만든 뒤 교체
+     */
+    public void rebuild() {
+
+        long startedAt = System.currentTimeMillis();
+        synchronized (rebuildLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        Map<Long, UserSearchIndex> rebuilt = new ConcurrentHashMap<>();
+        long documents = 0;
+        boolean isCompleted = false;
+        try {
+            List<SearchRow> rows;
+            long afterId = 0L;
+            do {
+                rows = categoryRepository.findSearchRowsAfter(afterId, Limit.of(REBUILD_BATCH_SIZE));
+                for (SearchRow row : rows) {
+                    indexOf(rebuilt, row.userId()).put(new SearchHit(SearchHit.CATEGORY, row.categoryId(), row.categoryId(), row.dueDate(), row.text()));
+                    afterId = row.categoryId();
+                }
+                documents += rows.size();
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+
+            afterId = 0L;
+            do {
+                rows = detailRepository.findSearchRowsAfter(afterId, Limit.of(REBUILD_BATCH_SIZE));
+                for (SearchRow row : rows) {
+                    indexOf(rebuilt, row.userId()).put(new SearchHit(SearchHit.DETAIL, row.detailId(), row.categoryId(), row.dueDate(), row.text()));
+                    afterId = row.detailId();
+                }
+                documents += rows.size();
+            } while (rows.size() == REBUILD_BATCH_SIZE);
+            isCompleted = true;
+
+        } finally {
+            synchronized (rebuildLock) {
+                // 중간에 실패하면 기존 인덱스 유지
+                if (isCompleted) {
+                    changesDuringRebuild.forEach(event -> apply(rebuilt, event));
+                    indexes = rebuilt;
+                }
+                changesDuringRebuild = null;
+            }
+        }
+
+        log.info("Search index rebuilt, [users]={}, [documents]={}, [ms]={}", rebuilt.size(), documents, System.currentTimeMillis() - startedAt);
+    }
+
+    private void apply(Map<Long, UserSearchIndex> target, TodoChangeEvent event) {
+
+        UserSearchIndex index = indexOf(target, event.userId());
+        switch (event.type()) {
+            case CATEGORY_SAVED -> index.put(new SearchHit(SearchHit.CATEGORY, event.categoryId(), event.categoryId(), event.dueDate(), event.text()));
+            case CATEGORY_DELETED -> index.removeCategory(event.categoryId());
+            case DETAIL_SAVED -> {
+                // 완료 여부만 바뀐 경우(text == null)는 인덱스 변경 없음
+                if (event.text() != null) {
+                    index.put(new SearchHit(SearchHit.DETAIL, event.detailId(), event.categoryId(), event.dueDate(), event.text()));
+                }
+            }
+            case DETAIL_DELETED -> index.removeDetail(event.detailId());
+        }
+    }
+
+    private UserSearchIndex indexOf(Map<Long, UserSearchIndex> target, Long userId) {
+        return target.computeIfAbsent(userId, id -> new UserSearchIndex());
+    }
+}
@@ -0,0 +1,38 @@
+package com.acoldbottle.todolist.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 문자, 숫자가 아닌 문자를 기준으로 나누고 소문자로 변환 (한글은 음절 단위 그대로 유지)
+ * ex) "토익 RC 2회독!" -> [토익, rc, 2회독]
+ */
+final class Tokenizer {
+
+    static final int MAX_TOKEN_LENGTH = 50;
+
+    private Tokenizer() {
+    }
+
+    static Set<String> tokenize(String text) {
+
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                tokens.add(text.substring(start, Math.min(i, start + MAX_TOKEN_LENGTH)).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
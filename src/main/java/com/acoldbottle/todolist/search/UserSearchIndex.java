@@ -0,0 +1,134 @@
+package com.acoldbottle.todolist.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용자 한 명의 역색인 (토큰 -> 문서)
+ * 토큰을 정렬된 map 에 보관해서 접두어로 시작하는 토큰을 범위 조회
+ * 쓰기는 사용자 단위로 잠그므로 다른 사용자의 검색, 쓰기와 경쟁하지 않음
+ */
+class UserSearchIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<DocKey, SearchHit> documents = new HashMap<>();
+    private final NavigableMap<String, Set<DocKey>> postings = new TreeMap<>();
+    private final Map<Long, Set<Long>> detailIdsByCategory = new HashMap<>();
+
+    void put(SearchHit hit) {
+
+        lock.writeLock().lock();
+        try {
+            DocKey key = new DocKey(hit.type(), hit.id());
+            removeDocument(key);
+            documents.put(key, hit);
+            for (String token : Tokenizer.tokenize(hit.text())) {
+                postings.computeIfAbsent(token, t -> new HashSet<>()).add(key);
+            }
+            if (!hit.isCategory()) {
+                detailIdsByCategory.computeIfAbsent(hit.categoryId(), id -> new HashSet<>()).add(hit.id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리와 카테고리에 속한 할일 모두 제거
+     */
+    void removeCategory(Long categoryId) {
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(new DocKey(SearchHit.CATEGORY, categoryId));
+            Set<Long> detailIds = detailIdsByCategory.remove(categoryId);
+            if (detailIds != null) {
+                detailIds.forEach(detailId -> removeDocument(new DocKey(SearchHit.DETAIL, detailId)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeDetail(Long detailId) {
+
+        lock.writeLock().lock();
+        try {
+            SearchHit removed = removeDocument(new DocKey(SearchHit.DETAIL, detailId));
+            if (removed != null) {
+                Set<Long> detailIds = detailIdsByCategory.get(removed.categoryId());
+                if (detailIds != null && detailIds.remove(detailId) && detailIds.isEmpty()) {
+                    detailIdsByCategory.remove(removed.categoryId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 (접두어로) 포함하는 문서를 최신순(ID 역순)으로 limit 개 조회
+     */
+    List<SearchHit> search(Set<String> queryTokens, int limit) {
+
+        lock.readLock().lock();
+        try {
+            Set<DocKey> matched = null;
+            for (String token : queryTokens) {
+
+                Set<DocKey> tokenMatches = new HashSet<>();
+                postings.subMap(token, true, token + Character.MAX_VALUE, true)
+                        .values()
+                        .forEach(tokenMatches::addAll);
+
+                if (matched == null) {
+                    matched = tokenMatches;
+                } else {
+                    matched.retainAll(tokenMatches);
+                }
+                if (matched.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            if (matched == null) {
+                return List.of();
+            }
+
+            List<SearchHit> hits = new ArrayList<>(matched.size());
+            matched.forEach(key -> hits.add(documents.get(key)));
+            hits.sort(Comparator.comparing(SearchHit::id).reversed());
+            return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private SearchHit removeDocument(DocKey key) {
+
+        SearchHit removed = documents.remove(key);
+        if (removed == null) {
+            return null;
+        }
+        for (String token : Tokenizer.tokenize(removed.text())) {
+            Set<DocKey> keys = postings.get(token);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+        return removed;
+    }
+
+    private record DocKey(String type, Long id) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.acoldbottle.todolist.service;
+
+import com.acoldbottle.todolist.repository.CategoryRepository;
+import com.acoldbottle.todolist.repository.DetailRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 삭제 표시된 카테고리 정리 서비스
+ * ====================================================
+ * purge() => 삭제 표시된 카테고리와 그 할일을 실제로 삭제
+ * ====================================================
+ * 카테고리를 category-batch-size 개씩 가져와서
+ * 할일을 detail-batch-size 개씩 DELETE -> 남은 할일이 없으면 카테고리 DELETE
+ * 배치마다 트랜잭션을 따로 열어서 한 번에 오래 잠그지 않음
+ * 삭제한 수는 todolist.purge.categories, todolist.purge.details 카운터에 기록
+ */
+@Slf4j
+@Service
+public class CategoryPurgeService {
+
+    private final CategoryRepository categoryRepository;
+    private final DetailRepository detailRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int categoryBatchSize;
+    private final int detailBatchSize;
+    private final Counter purgedCategoryCounter;
+    private final Counter purgedDetailCounter;
+
+    public CategoryPurgeService(CategoryRepository categoryRepository,
+                                DetailRepository detailRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${todolist.purge.category-batch-size:100}") int categoryBatchSize,
+                                @Value("${todolist.purge.detail-batch-size:1000}") int detailBatchSize) {
+
+        this.categoryRepository = categoryRepository;
+        this.detailRepository = detailRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.categoryBatchSize = categoryBatchSize;
+        this.detailBatchSize = detailBatchSize;
+        this.purgedCategoryCounter = meterRegistry.counter("todolist.purge.categories");
+        this.purgedDetailCounter = meterRegistry.counter("todolist.purge.details");
+    }
+
+    @Scheduled(fixedDelayString = "${todolist.purge.fixed-delay-ms:60000}", initialDelayString = "${todolist.purge.initial-delay-ms:60000}")
+    public void purgeScheduled() {
+
+        try {
+            purge();
+        } catch (Exception e) {
+            log.error("[purge Error] {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 삭제한 카테고리 수
+     */
+    public long purge() {
+
+        long purgedCategories = 0;
+        long purgedDetails = 0;
+        List<Long> categoryIds;
+
+        do {
+
+            categoryIds = categoryRepository.findDeletedIds(categoryBatchSize);
+            if (categoryIds.isEmpty()) {
+                break;
+            }
+
+            List<Long> batch = categoryIds;
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> detailRepository.purgeByCategoryIdIn(batch, detailBatchSize));
+                purgedDetails += deleted;
+            } while (deleted == detailBatchSize);
+
+            purgedCategories += transactionTemplate.execute(status -> categoryRepository.purgeByIdIn(batch));
+
+        } while (categoryIds.size() == categoryBatchSize);
+
+        purgedCategoryCounter.increment(purgedCategories);
+        purgedDetailCounter.increment(purgedDetails);
+        if (purgedCategories > 0) {
+            log.info("Purged deleted categories, [categories]={}, [details]={}", purgedCategories, purgedDetails);
+        }
+        return purgedCategories;
+    }
+}
@@ -3,19 +3,36 @@ package com.acoldbottle.todolist.service;
 import com.acoldbottle.todolist.domain.TodoCategory;
 import com.acoldbottle.todolist.domain.User;
 import com.acoldbottle.todolist.dto.CategoryDTO;
+import com.acoldbottle.todolist.dto.CategorySummary;
+import com.acoldbottle.todolist.dto.CursorPage;
+import com.acoldbottle.todolist.dto.DetailCounts;
+import com.acoldbottle.todolist.dto.DetailDTO;
+import com.acoldbottle.todolist.dto.PageCursor;
 import com.acoldbottle.todolist.dto.UserDTO;
+import com.acoldbottle.todolist.event.TodoChangeEvent;
 import com.acoldbottle.todolist.exception.CategoryNotFoundException;
+import com.acoldbottle.todolist.exception.DuplicateCategoryException;
+import com.acoldbottle.todolist.exception.InvalidRequestException;
 import com.acoldbottle.todolist.exception.UserNotFoundException;
 import com.acoldbottle.todolist.repository.CategoryRepository;
+import com.acoldbottle.todolist.repository.DailyStatsRepository;
 import com.acoldbottle.todolist.repository.DetailRepository;
+import com.acoldbottle.todolist.repository.SyncRepository;
 import com.acoldbottle.todolist.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Category 서비스
@@ -24,6 +41,8 @@ import java.util.List;
  * addCategory() => 카테고리 추가
  * deleteCategory() => 카테고리 삭제
  * getCategories() => 카테고리 목록 조회
+ * getDayView() => 해당 날짜의 카테고리와 할일 전체 조회
+ * getCategoriesInRange() => 기간 내 카테고리 목록 페이지 조회
  * findCategory() => 카테고리 조회
  * ====================================================
  * convertDtoToEntity() => 카테고리 DTO를 카테고리 엔티티로 변환
@@ -31,6 +50,7 @@ import java.util.List;
  */
 @Slf4j
 @Service
+@Timed("todolist.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CategoryService {
@@ -38,6 +58,9 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final DetailRepository detailRepository;
+    private final DailyStatsRepository dailyStatsRepository;
+    private final SyncRepository syncRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
 
@@ -45,7 +68,11 @@ public class CategoryService {
     public void saveCategory(CategoryDTO categoryDTO) {
 
         categoryDTO.setDetailDTOList(null);
-        categoryRepository.save(convertDtoToEntity(categoryDTO));
+        TodoCategory category = convertDtoToEntity(categoryDTO);
+        category.touch(syncRepository.nextSeq(categoryDTO.getUserId()));
+        TodoCategory savedCategory = saveUnique(category);
+        eventPublisher.publishEvent(TodoChangeEvent.categorySaved(
+                categoryDTO.getUserId(), savedCategory.getId(), savedCategory.getDueDate(), savedCategory.getTitle()));
     }
 
     @Transactional
@@ -63,44 +90,98 @@ public class CategoryService {
         categoryDTO.setDueDate(dueDate);
 
         TodoCategory todoCategory = convertDtoToEntity(categoryDTO);
-        TodoCategory savedCategory = categoryRepository.save(todoCategory);
+        todoCategory.touch(syncRepository.nextSeq(userId));
+        TodoCategory savedCategory = saveUnique(todoCategory);
+        eventPublisher.publishEvent(TodoChangeEvent.categorySaved(userId, savedCategory.getId(), dueDate, title));
 
         return savedCategory.getId();
     }
 
-    @Transactional
-    public boolean deleteCategory(Long categoryId) {
+    /**
+     * 바로 INSERT 해서 (user_id, due_date, title) 유니크 인덱스 위반을 여기서 확인
+     * 미리 조회하지 않으므로 SQL 수가 늘지 않고, 동시에 같은 이름으로 추가해도 하나만 성공
+     */
+    private TodoCategory saveUnique(TodoCategory category) {
 
         try {
+            return categoryRepository.saveAndFlush(category);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Duplicate Category, [USER ID]={}, [due date]={}, [title]={}",
+                    category.getUser().getId(), category.getDueDate(), category.getTitle());
+            throw new DuplicateCategoryException("같은 날짜에 같은 이름의 카테고리가 이미 있습니다.", e);
+        }
+    }
 
-            TodoCategory category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> {
+    /**
+     * 카테고리 삭제 표시 (UPDATE 한 번)
+     * 할일이 많아도 요청 시간과 잠금 시간이 일정하고, 실제 삭제는 CategoryPurgeService 가 나눠서 처리
+     * 카테고리의 할일 수만큼 날짜별 통계에서 빼고, 변경 동기화용 삭제 기록을 남김
+     */
+    @Transactional
+    public boolean deleteCategory(Long categoryId) {
 
-                        log.warn("Category Not Found. [CATEGORY ID]={}", categoryId);
-                        return new CategoryNotFoundException("삭제하려는 카테고리를 찾을 수 없습니다.");
-                    });
+        TodoCategory category = categoryRepository.findById(categoryId).orElse(null);
+        if (category == null || categoryRepository.softDeleteById(categoryId) == 0) {
 
-            detailRepository.deleteByTodoCategory(category);
-            categoryRepository.deleteById(categoryId);
-            return true;
+            log.warn("Category Not Found. [CATEGORY ID]={}", categoryId);
+            return false;
+        }
 
-        } catch (CategoryNotFoundException e) {
+        // 다른 예외는 그대로 던져서 롤백 (삭제 표시만 커밋되고 통계, 삭제 기록이 빠지지 않도록)
+        Long userId = category.getUser().getId();
+        DetailCounts counts = detailRepository.countByCategoryId(categoryId);
+        dailyStatsRepository.adjust(userId, category.getDueDate(), -counts.total(), -counts.completed());
+        syncRepository.addTombstones(userId, syncRepository.nextSeq(userId), SyncRepository.CATEGORY, List.of(categoryId));
+        eventPublisher.publishEvent(TodoChangeEvent.categoryDeleted(userId, categoryId, category.getDueDate()));
+        return true;
+    }
 
-            return false;
+    public List<CategorySummary> getCategories(LocalDate dueDate, Long userId) {
+        return categoryRepository.findSummariesByUserIdAndDueDate(userId, dueDate);
+    }
 
-        } catch (Exception e) {
+    /**
+     * 카테고리 조회 1번 + 할일 조회 1번으로 하루 전체를 조회
+     */
+    public List<CategoryDTO> getDayView(LocalDate dueDate, Long userId) {
 
-            log.error("[deleteCategory Error] {}", e.getMessage());
-            return false;
+        Map<Long, CategoryDTO> categories = new LinkedHashMap<>();
+        for (CategorySummary summary : categoryRepository.findSummariesByUserIdAndDueDate(userId, dueDate)) {
+            categories.put(summary.categoryId(), new CategoryDTO(summary.categoryId(), summary.title(), userId, summary.dueDate(), new ArrayList<>()));
         }
 
+        for (DetailDTO detail : detailRepository.findDtosByUserIdAndDueDate(userId, dueDate)) {
+            CategoryDTO category = categories.get(detail.getCategoryId());
+            if (category != null) {
+                category.getDetailDTOList().add(detail);
+            }
+        }
+
+        return new ArrayList<>(categories.values());
     }
 
-    public List<CategoryDTO> getCategories(LocalDate dueDate, UserDTO userDTO) {
-        List<TodoCategory> categories = categoryRepository.findByUserAndDueDate(userRepository.findByUsername(userDTO.getUsername()), dueDate);
-        return categories.stream()
-                .map(this::convertEntityToDto)
-                .toList();
+    /**
+     * 기간 내 카테고리를 (마감일, ID) 순으로 한 페이지씩 조회 (keyset)
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor, 첫 페이지는 null
+     * @param size 페이지 크기 (1 ~ 100)
+     */
+    public CursorPage<CategorySummary> getCategoriesInRange(Long userId, LocalDate from, LocalDate to, String cursor, Integer size) {
+
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("시작 날짜가 종료 날짜보다 늦습니다.");
+        }
+
+        PageCursor after = cursor == null ? new PageCursor(from, 0L) : PageCursor.decode(cursor);
+        if (after.dueDate() == null) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+
+        int pageSize = CursorPage.clampSize(size);
+        List<CategorySummary> rows = categoryRepository.findSummariesByUserIdAndDueDateBetween(
+                userId, from, to, after.dueDate(), after.id(), Limit.of(pageSize + 1));
+
+        return CursorPage.of(rows, pageSize, summary -> new PageCursor(summary.dueDate(), summary.categoryId()));
     }
 
     public CategoryDTO findCategory(Long categoryId) {
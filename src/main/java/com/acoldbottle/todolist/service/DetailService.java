@@ -2,43 +2,74 @@ package com.acoldbottle.todolist.service;
 
 import com.acoldbottle.todolist.domain.TodoCategory;
 import com.acoldbottle.todolist.domain.TodoDetail;
+import com.acoldbottle.todolist.dto.CursorPage;
+import com.acoldbottle.todolist.dto.DetailBatchResult;
 import com.acoldbottle.todolist.dto.DetailDTO;
+import com.acoldbottle.todolist.dto.PageCursor;
+import com.acoldbottle.todolist.event.TodoChangeEvent;
 import com.acoldbottle.todolist.exception.CategoryNotFoundException;
 import com.acoldbottle.todolist.exception.DetailNotFoundException;
+import com.acoldbottle.todolist.exception.InvalidRequestException;
 import com.acoldbottle.todolist.repository.CategoryRepository;
+import com.acoldbottle.todolist.repository.DailyStatsRepository;
 import com.acoldbottle.todolist.repository.DetailRepository;
+import com.acoldbottle.todolist.repository.SyncRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Detail 서비스
  * =====================================================
  * saveDetail() => 할일 저장
  * getDetailsByCategory() => 해당 카테고리에 있는 할일 목록 조회
+ * getDetailPage() => 해당 카테고리에 있는 할일 목록 페이지 조회
  * addDetail() => 할일 추가
  * updateDetail() => 할일 수정 -> ex) 할일 내용 or 완료 여부
+ * updateCompletion() => 할일 완료 여부만 변경 (엔티티 로딩 없이 UPDATE 한 번)
  * deleteDetail() => 할일 삭제
+ * applyBatch() => 할일 일괄 추가, 수정, 삭제
+ * =====================================================
+ * 할일 추가, 완료 여부 변경, 삭제 시 같은 트랜잭션에서 날짜별 통계(daily_stats)도 갱신
+ * 변경한 할일에 사용자별 순번(mod_seq)을 기록하고, 삭제하면 삭제 기록을 남김 (변경 동기화)
+ * 변경마다 TodoChangeEvent 발행 -> 커밋 후 검색 인덱스 등에 반영
  * =====================================================
  * convertEntityToDto() => 할일 엔티티를 할일 DTO로 변환
  * convertDtoToEntity() => 할일 DTO를 할일 엔티티로 변환
  */
 @Slf4j
 @Service
+@Timed("todolist.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DetailService {
 
     private final DetailRepository detailRepository;
     private final CategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DailyStatsRepository dailyStatsRepository;
+    private final SyncRepository syncRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long saveDetail(DetailDTO detailDTO) {
 
-        TodoDetail savedDetail = detailRepository.save(convertDtoToEntity(detailDTO));
+        TodoDetail todoDetail = convertDtoToEntity(detailDTO);
+        todoDetail.touch(syncRepository.nextSeq(todoDetail.getUserId()));
+        TodoDetail savedDetail = detailRepository.save(todoDetail);
+        adjustStats(savedDetail.getTodoCategory(), 1, savedDetail.isCompleted() ? 1 : 0);
+        publishSaved(savedDetail.getTodoCategory(), savedDetail.getId(), savedDetail.getDescription());
         return savedDetail.getId();
     }
 
@@ -56,6 +87,26 @@ public class DetailService {
                 .toList();
     }
 
+    /**
+     * 카테고리의 할일을 ID 순으로 한 페이지씩 조회 (keyset)
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor, 첫 페이지는 null
+     * @param size 페이지 크기 (1 ~ 100)
+     */
+    public CursorPage<DetailDTO> getDetailPage(Long categoryId, Long userId, String cursor, Integer size) {
+
+        if (!categoryRepository.existsByIdAndUserId(categoryId, userId)) {
+            log.warn("Category Not Found, [category ID]={}, [USER ID]={}", categoryId, userId);
+            throw new CategoryNotFoundException("해당 카테고리를 찾을 수 없습니다. 카테고리 아이디를 다시 확인해주세요");
+        }
+
+        long afterId = cursor == null ? 0L : PageCursor.decode(cursor).id();
+        int pageSize = CursorPage.clampSize(size);
+        List<DetailDTO> rows = detailRepository.findDtosByCategoryIdAfter(categoryId, afterId, Limit.of(pageSize + 1));
+
+        return CursorPage.of(rows, pageSize, detail -> PageCursor.of(detail.getDetailId()));
+    }
+
     @Transactional
     public DetailDTO addDetail(Long categoryId, String description) {
 
@@ -68,44 +119,220 @@ public class DetailService {
     @Transactional
     public DetailDTO updateDetail(Long detailId, String description, Boolean isCompleted) {
 
-        TodoDetail todoDetail = detailRepository.findById(detailId)
+        TodoDetail todoDetail = detailRepository.findActiveById(detailId)
                 .orElseThrow(() -> {
                     log.warn("Detail Not Found, [detail ID]={}", detailId);
                     return new DetailNotFoundException("해당 할 일을 찾을 수 없습니다. 할 일의 아이디를 확인해주세요.");
                 });
 
+        boolean isChanged = false;
         if (description != null) {
             todoDetail.addDescription(description);
+            isChanged = true;
         }
-        if (isCompleted != null) {
+        if (isCompleted != null && isCompleted != todoDetail.isCompleted()) {
             todoDetail.updateCompleteStatus(isCompleted);
+            adjustStats(todoDetail.getTodoCategory(), 0, isCompleted ? 1 : -1);
+            isChanged = true;
+        }
+        if (isChanged) {
+            todoDetail.touch(syncRepository.nextSeq(todoDetail.getTodoCategory().getUser().getId()));
+            publishSaved(todoDetail.getTodoCategory(), detailId, description);
         }
 
         detailRepository.save(todoDetail);
         return convertEntityToDto(todoDetail);
     }
+
+    /**
+     * 할일 완료 여부 변경 (체크박스)
+     * 카테고리, 할일을 로딩하지 않고 순번 증가, UPDATE, 통계 증감(마감일은 카테고리에서 INSERT ... SELECT) 3문장
+     * 변경 이벤트의 마감일은 조회하지 않으므로 null
+     *
+     * @return 변경된 할일 수, 이미 같은 값이면 0
+     */
     @Transactional
-    public boolean deleteDetail(Long detailId) {
+    public int updateCompletion(Long categoryId, Long detailId, Long userId, boolean isCompleted) {
 
-        try {
+        syncRepository.advanceSeq(userId);
+        int updated = detailRepository.updateCompletion(detailId, categoryId, userId, isCompleted);
 
-            detailRepository.findById(detailId).orElseThrow(() -> {
-                        log.warn("Detail Not Found, [detail ID]={}", detailId);
-                        return new DetailNotFoundException("해당 할 일을 찾을 수 없습니다. 할 일의 아이디를 확인해주세요.");
-                    }
-            );
+        if (updated == 0) {
+            // 변경이 없는 경우만 할일이 있는지 확인 (이미 같은 값 or 없는 할일 or 없는 카테고리)
+            if (detailRepository.existsByIdAndCategoryIdAndUserId(detailId, categoryId, userId)) {
+                return 0;
+            }
+            if (!categoryRepository.existsByIdAndUserId(categoryId, userId)) {
+                log.warn("Category Not Found, [category ID]={}, [USER ID]={}", categoryId, userId);
+                throw new CategoryNotFoundException("해당 카테고리를 찾을 수 없습니다. 카테고리 아이디를 다시 확인해주세요");
+            }
+            log.warn("Detail Not Found, [detail ID]={}", detailId);
+            throw new DetailNotFoundException("해당 할 일을 찾을 수 없습니다. 할 일의 아이디를 확인해주세요.");
+        }
 
-            detailRepository.deleteById(detailId);
-            return true;
+        dailyStatsRepository.adjustByCategory(categoryId, userId, 0, isCompleted ? 1 : -1);
+        eventPublisher.publishEvent(TodoChangeEvent.detailSaved(userId, categoryId, detailId, null, null));
+        return updated;
+    }
 
-        } catch (DetailNotFoundException e) {
+    @Transactional
+    public boolean deleteDetail(Long detailId) {
 
-            return false;
-        } catch (Exception e) {
+        TodoDetail todoDetail = detailRepository.findActiveById(detailId).orElse(null);
+        if (todoDetail == null) {
 
-            log.error("[deleteDetail Error] {}", e.getMessage());
+            log.warn("Detail Not Found, [detail ID]={}", detailId);
             return false;
         }
+
+        // 다른 예외는 그대로 던져서 롤백, 이벤트는 마지막 변경 후에 발행
+        TodoCategory category = todoDetail.getTodoCategory();
+        Long userId = category.getUser().getId();
+        adjustStats(category, -1, todoDetail.isCompleted() ? -1 : 0);
+        syncRepository.addTombstones(userId, syncRepository.nextSeq(userId), SyncRepository.DETAIL, List.of(detailId));
+        detailRepository.deleteById(detailId);
+        publishDeleted(category, detailId);
+        return true;
+    }
+
+    /**
+     * 할일 일괄 처리 (한 트랜잭션)
+     * 삭제, 완료 여부 변경은 집합 단위 UPDATE/DELETE 한 번씩, 내용 변경은 JDBC batch, 추가는 saveAll 로 처리
+     * 같은 할일을 수정하고 삭제하면 삭제만 적용
+     *
+     * @return 항목마다 처리 결과 (추가 -> 수정 -> 삭제 순서)
+     */
+    @Transactional
+    public List<DetailBatchResult> applyBatch(Long categoryId, Long userId, List<String> creates, List<DetailDTO> updates, List<Long> deletes) {
+
+        validateBatch(creates, updates, deletes);
+
+        // 집합 단위 UPDATE/DELETE 가 영속성 컨텍스트를 비우므로 프록시가 아닌 카테고리를 미리 로딩 (2차 캐시)
+        TodoCategory category = categoryRepository.findById(categoryId)
+                .filter(found -> found.getUser().getId().equals(userId))
+                .orElseThrow(() -> {
+                    log.warn("Category Not Found, [category ID]={}, [USER ID]={}", categoryId, userId);
+                    return new CategoryNotFoundException("해당 카테고리를 찾을 수 없습니다. 카테고리 아이디를 다시 확인해주세요");
+                });
+
+        // 요청한 할일 중 이 카테고리에 실제로 있는 할일 ID
+        Set<Long> requestedIds = new HashSet<>(deletes);
+        updates.forEach(update -> requestedIds.add(update.getDetailId()));
+        Set<Long> existingIds = new HashSet<>();
+        if (!requestedIds.isEmpty()) {
+            existingIds.addAll(detailRepository.findIdsByCategoryIdAndIdIn(categoryId, requestedIds));
+        }
+
+        List<DetailBatchResult> results = new ArrayList<>();
+        long modSeq = syncRepository.nextSeq(userId); // 일괄 처리의 모든 변경은 같은 순번
+
+        // 추가
+        List<TodoDetail> created = detailRepository.saveAll(creates.stream()
+                .map(description -> {
+                    TodoDetail detail = TodoDetail.builder().description(description).todoCategory(category).build();
+                    detail.touch(modSeq);
+                    return detail;
+                })
+                .toList());
+        created.forEach(detail -> {
+            results.add(new DetailBatchResult("create", detail.getId(), true));
+            publishSaved(category, detail.getId(), detail.getDescription());
+        });
+
+        // 수정
+        Set<Long> deleteIds = new HashSet<>(deletes);
+        List<Long> completedIds = new ArrayList<>();
+        List<Long> notCompletedIds = new ArrayList<>();
+        List<Object[]> descriptionArgs = new ArrayList<>();
+
+        for (DetailDTO update : updates) {
+
+            Long detailId = update.getDetailId();
+            boolean isApplied = existingIds.contains(detailId) && !deleteIds.contains(detailId);
+            results.add(new DetailBatchResult("update", detailId, isApplied));
+            if (!isApplied) {
+                continue;
+            }
+
+            if (update.getIsCompleted() != null) {
+                (update.getIsCompleted() ? completedIds : notCompletedIds).add(detailId);
+            }
+            if (update.getDescription() != null) {
+                descriptionArgs.add(new Object[]{update.getDescription(), modSeq, detailId, categoryId});
+            }
+            publishSaved(category, detailId, update.getDescription());
+        }
+
+        if (!completedIds.isEmpty()) {
+            detailRepository.updateCompletionByCategoryIdAndIdIn(categoryId, completedIds, true, modSeq);
+        }
+        if (!notCompletedIds.isEmpty()) {
+            detailRepository.updateCompletionByCategoryIdAndIdIn(categoryId, notCompletedIds, false, modSeq);
+        }
+        if (!descriptionArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate("update todo_detail set description = ?, mod_seq = ? where id = ? and category_id = ?", descriptionArgs);
+        }
+
+        // 삭제
+        List<Long> deletableIds = deleteIds.stream().filter(existingIds::contains).toList();
+        if (!deletableIds.isEmpty()) {
+            detailRepository.deleteByCategoryIdAndIdIn(categoryId, deletableIds);
+            deletableIds.forEach(detailId -> publishDeleted(category, detailId));
+            syncRepository.addTombstones(userId, modSeq, SyncRepository.DETAIL, deletableIds);
+        }
+        deletes.forEach(detailId -> results.add(new DetailBatchResult("delete", detailId, existingIds.contains(detailId))));
+
+        // 여러 종류의 변경이 섞여 있으므로 증감 대신 해당 날짜 통계를 다시 집계
+        detailRepository.flush();
+        dailyStatsRepository.recompute(userId, category.getDueDate());
+
+        return results;
+    }
+
+    /**
+     * 일괄 처리 요청 검증 -> 목록이 없거나, 추가할 내용이 비어 있거나, 할일 ID 가 없거나, 같은 할일을 여러 번 수정하면 400
+     */
+    private void validateBatch(List<String> creates, List<DetailDTO> updates, List<Long> deletes) {
+
+        if (creates == null || updates == null || deletes == null) {
+            throw new InvalidRequestException("추가, 수정, 삭제 목록은 null 일 수 없습니다.");
+        }
+        if (creates.stream().anyMatch(description -> description == null || description.isBlank())) {
+            throw new InvalidRequestException("추가할 할일 내용이 비어 있습니다.");
+        }
+
+        Set<Long> updateIds = new HashSet<>();
+        for (DetailDTO update : updates) {
+            if (update == null || update.getDetailId() == null) {
+                throw new InvalidRequestException("수정할 할일 ID 가 없습니다.");
+            }
+            if (!updateIds.add(update.getDetailId())) {
+                throw new InvalidRequestException("같은 할일을 여러 번 수정할 수 없습니다. [detail ID]=" + update.getDetailId());
+            }
+        }
+        if (deletes.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("삭제할 할일 ID 가 없습니다.");
+        }
+    }
+
+    private void adjustStats(TodoCategory category, int totalDelta, int completedDelta) {
+
+        dailyStatsRepository.adjust(category.getUser().getId(), category.getDueDate(), totalDelta, completedDelta);
+    }
+
+    /**
+     * @param description 변경된 할일 내용, 내용이 바뀌지 않았으면 null
+     */
+    private void publishSaved(TodoCategory category, Long detailId, String description) {
+
+        eventPublisher.publishEvent(TodoChangeEvent.detailSaved(
+                category.getUser().getId(), category.getId(), detailId, category.getDueDate(), description));
+    }
+
+    private void publishDeleted(TodoCategory category, Long detailId) {
+
+        eventPublisher.publishEvent(TodoChangeEvent.detailDeleted(
+                category.getUser().getId(), category.getId(), detailId, category.getDueDate()));
     }
 
     public DetailDTO convertEntityToDto(TodoDetail todoDetail) {
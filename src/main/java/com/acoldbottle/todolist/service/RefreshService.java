@@ -2,11 +2,13 @@ package com.acoldbottle.todolist.service;
 
 import com.acoldbottle.todolist.domain.RefreshToken;
 import com.acoldbottle.todolist.domain.UserRole;
+import com.acoldbottle.todolist.jwt.JWTClaims;
 import com.acoldbottle.todolist.jwt.JWTUtil;
 import com.acoldbottle.todolist.jwt.TokenExpiration;
-import com.acoldbottle.todolist.repository.RefreshRepository;
+import com.acoldbottle.todolist.repository.RefreshTokenStore;
 import com.acoldbottle.todolist.repository.UserRepository;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -17,22 +19,25 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.util.Collection;
 
 /**
  * Refresh 토큰 서비스
  * ======================================
  * reissue() => 검증 후에 access 토큰 재발급
+ * revokeAll() => 여러 사용자의 refresh 토큰 일괄 삭제 (관리자 일괄 로그아웃)
  * ======================================
  * createCookie() => 쿠키 생성
  * addRefreshEntity() => refresh 토큰 저장
  */
 @Service
+@Timed("todolist.service")
 @RequiredArgsConstructor
 @Slf4j
 public class RefreshService {
 
     private final JWTUtil jwtUtil;
-    private final RefreshRepository refreshRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final UserRepository userRepository;
 
     @Transactional
@@ -47,9 +52,10 @@ public class RefreshService {
             return;
         }
 
-        // 리프레시 토큰의 만료 여부 체크
+        // 리프레시 토큰 서명 검증 (한 번만 파싱), 만료 여부 체크
+        JWTClaims claims;
         try {
-            jwtUtil.isExpired(refresh);
+            claims = jwtUtil.parse(refresh);
         } catch (ExpiredJwtException e) {
             log.info("Refresh token is expired. Redirecting to login.");
             log.error("Expired JWT exception: {}", e.getMessage());
@@ -58,16 +64,16 @@ public class RefreshService {
             return;
         }
 
-        String username = jwtUtil.getUsername(refresh);
-        UserRole role = jwtUtil.getRole(refresh);
-        Long userId = jwtUtil.getUserId(refresh);
+        String username = claims.getUsername();
+        UserRole role = claims.getRole();
+        Long userId = claims.getUserId();
 
         String newAccess = jwtUtil.createJwt("access", username, role, userId, TokenExpiration.ACCESS_TOKEN_EXPIRATION);
 
         log.info("Access 토큰 재발급");
 
         // 리프레시 엔티티 저장
-        addRefreshEntity(username, refresh);
+        addRefreshEntity(username, userId, refresh, claims.getExpiration().getTime());
 
         response.setContentType("application/json");
         response.setStatus(HttpStatus.OK.value());
@@ -80,6 +86,13 @@ public class RefreshService {
         response.getWriter().write(jsonResponse);
     }
 
+    public long revokeAll(Collection<String> usernames) {
+
+        long revoked = refreshTokenStore.deleteAllByUsername(usernames);
+        log.info("Refresh 토큰 일괄 삭제, requested={}, revoked={}", usernames.size(), revoked);
+        return revoked;
+    }
+
     private Cookie createCookie(String key, String value) {
         Cookie cookie = new Cookie(key, value);
         cookie.setMaxAge(60 * 60 * 24);
@@ -88,10 +101,12 @@ public class RefreshService {
         return cookie;
     }
 
-    private void addRefreshEntity(String username, String refresh) {
+    private void addRefreshEntity(String username, Long userId, String refresh, long expiresAt) {
         RefreshToken refreshEntity = new RefreshToken();
         refreshEntity.setUsername(username);
         refreshEntity.setRefresh(refresh);
-        refreshRepository.save(refreshEntity);
+        refreshEntity.setUserId(userId);
+        refreshEntity.setExpiresAt(expiresAt);
+        refreshTokenStore.save(refreshEntity);
     }
 }
@@ -0,0 +1,129 @@
+package com.acoldbottle.todolist.service;
+
+import com.acoldbottle.todolist.dto.DailyStats;
+import com.acoldbottle.todolist.exception.InvalidRequestException;
+import com.acoldbottle.todolist.repository.DailyStatsRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * 할일 통계 서비스
+ * ====================================================
+ * getStats() => 기간 내 일/주/월 단위 할일 수, 완료한 할일 수 조회
+ * rebuild() => 기간 내 통계를 할일 테이블에서 다시 집계
+ * ====================================================
+ * 통계는 할일 추가, 완료 변경, 삭제 시 DetailService, CategoryService 가 같은 트랜잭션에서 갱신
+ * 어긋난 값은 매일 rebuildScheduled() 가 최근 기간을 다시 집계해서 복구
+ */
+@Slf4j
+@Service
+@Timed("todolist.service")
+public class StatsService {
+
+    public static final int MAX_RANGE_DAYS = 366;
+    private static final int REBUILD_CHUNK_DAYS = 7;
+
+    private final DailyStatsRepository dailyStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebuildDaysBefore;
+    private final int rebuildDaysAfter;
+
+    public StatsService(DailyStatsRepository dailyStatsRepository,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${todolist.stats.rebuild-days-before:30}") int rebuildDaysBefore,
+                        @Value("${todolist.stats.rebuild-days-after:30}") int rebuildDaysAfter) {
+
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // INSERT ... SELECT 가 원본 행(카테고리, 할일)에 공유 잠금을 걸지 않도록 READ COMMITTED (REPEATABLE READ 면 재집계 동안 할일 변경이 막힘)
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.rebuildDaysBefore = rebuildDaysBefore;
+        this.rebuildDaysAfter = rebuildDaysAfter;
+    }
+
+    /**
+     * @param unit day, week(월요일 시작), month
+     * @return 기간 순서대로 통계, 할일이 없는 기간은 제외
+     */
+    public List<DailyStats> getStats(Long userId, LocalDate from, LocalDate to, String unit) {
+
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("시작 날짜가 종료 날짜보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new InvalidRequestException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        List<DailyStats> daily = dailyStatsRepository.findByUserIdAndDueDateBetween(userId, from, to);
+
+        return switch (unit) {
+            case "day" -> daily;
+            case "week" -> rollup(daily, date -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+                    start -> start.plusDays(6));
+            case "month" -> rollup(daily, date -> date.withDayOfMonth(1),
+                    start -> start.with(TemporalAdjusters.lastDayOfMonth()));
+            default -> throw new InvalidRequestException("unit 은 day, week, month 중 하나입니다.");
+        };
+    }
+
+    @Scheduled(cron = "${todolist.stats.rebuild-cron:0 30 4 * * *}")
+    public void rebuildScheduled() {
+
+        try {
+            LocalDate today = LocalDate.now();
+            rebuild(today.minusDays(rebuildDaysBefore), today.plusDays(rebuildDaysAfter));
+        } catch (Exception e) {
+            log.error("[rebuildStats Error] {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기간을 7일씩 나눠서 트랜잭션마다 다시 집계 (한 번에 오래 잠그지 않음)
+     * 카테고리는 idx_todo_category_due_date 로 기간만 읽음
+     *
+     * @return 만들어진 통계 행 수
+     */
+    public long rebuild(LocalDate from, LocalDate to) {
+
+        long rebuilt = 0;
+        for (LocalDate start = from; !start.isAfter(to); start = start.plusDays(REBUILD_CHUNK_DAYS)) {
+
+            LocalDate chunkStart = start;
+            LocalDate chunkEnd = start.plusDays(REBUILD_CHUNK_DAYS - 1).isAfter(to) ? to : start.plusDays(REBUILD_CHUNK_DAYS - 1);
+            rebuilt += transactionTemplate.execute(status -> dailyStatsRepository.rebuild(chunkStart, chunkEnd));
+        }
+
+        log.info("Rebuilt daily stats, [from]={}, [to]={}, [rows]={}", from, to, rebuilt);
+        return rebuilt;
+    }
+
+    private List<DailyStats> rollup(List<DailyStats> daily,
+                                    UnaryOperator<LocalDate> startOf,
+                                    UnaryOperator<LocalDate> endOf) {
+
+        Map<LocalDate, DailyStats> buckets = new LinkedHashMap<>();
+        for (DailyStats stats : daily) {
+
+            LocalDate start = startOf.apply(stats.from());
+            DailyStats bucket = new DailyStats(start, endOf.apply(start), stats.total(), stats.completed());
+            buckets.merge(start, bucket, DailyStats::plus);
+        }
+        return new ArrayList<>(buckets.values());
+    }
+}
@@ -0,0 +1,122 @@
+package com.acoldbottle.todolist.service;
+
+import com.acoldbottle.todolist.dto.SyncChanges;
+import com.acoldbottle.todolist.repository.SyncRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * 변경 동기화 서비스
+ * ====================================================
+ * getChanges() => 커서 이후 추가, 수정, 삭제된 카테고리와 할일 조회
+ * purgeTombstones() => 보관 기간이 지난 삭제 기록 정리
+ * ====================================================
+ * 순번 발급, 삭제 기록 저장은 CategoryService, DetailService 가 변경과 같은 트랜잭션에서 처리
+ */
+@Slf4j
+@Service
+@Timed("todolist.service")
+public class SyncService {
+
+    /**
+     * 한 번에 응답할 종류별 최대 행 수
+     * 한 트랜잭션의 변경(같은 순번)은 최대 300개(일괄 처리)이므로 이보다 커야 페이지가 같은 순번 중간에서 끊기지 않음
+     */
+    static final int PAGE_SIZE = 500;
+    private static final int TOMBSTONE_DELETE_BATCH_SIZE = 1000;
+
+    private final SyncRepository syncRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int tombstoneRetentionDays;
+
+    public SyncService(SyncRepository syncRepository,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${todolist.sync.tombstone-retention-days:30}") int tombstoneRetentionDays) {
+
+        this.syncRepository = syncRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tombstoneRetentionDays = tombstoneRetentionDays;
+    }
+
+    /**
+     * 세 목록을 같은 스냅샷에서 읽어야 조회 사이에 커밋된 변경이 한 목록에만 섞이지 않음
+     *
+     * @param cursor 이전 응답의 cursor, 처음 동기화하면 null
+     */
+    @Transactional(readOnly = true)
+    public SyncChanges getChanges(Long userId, Long cursor) {
+
+        long after = cursor == null ? -1L : cursor;
+        if (after >= 0 && after < syncRepository.tombstoneFloor(userId)) {
+            return new SyncChanges(-1L, false, true, List.of(), List.of(), List.of());
+        }
+
+        List<SyncChanges.Category> categories = syncRepository.findCategoriesAfter(userId, after, PAGE_SIZE);
+        List<SyncChanges.Detail> details = syncRepository.findDetailsAfter(userId, after, PAGE_SIZE);
+        List<SyncChanges.Deleted> deleted = after < 0 ? List.of() : syncRepository.findTombstonesAfter(userId, after, PAGE_SIZE);
+
+        // 잘린 목록이 있으면 그 목록의 마지막 순번은 일부만 받았을 수 있으므로 그 전 순번까지만 응답
+        long safe = Long.MAX_VALUE;
+        safe = Math.min(safe, lastCompleteSeq(categories, SyncChanges.Category::modSeq));
+        safe = Math.min(safe, lastCompleteSeq(details, SyncChanges.Detail::modSeq));
+        safe = Math.min(safe, lastCompleteSeq(deleted, SyncChanges.Deleted::modSeq));
+
+        if (safe == Long.MAX_VALUE) {
+            long next = Math.max(after, Math.max(maxSeq(categories, SyncChanges.Category::modSeq),
+                    Math.max(maxSeq(details, SyncChanges.Detail::modSeq), maxSeq(deleted, SyncChanges.Deleted::modSeq))));
+            return new SyncChanges(next, false, false, categories, details, deleted);
+        }
+
+        long limit = safe;
+        return new SyncChanges(limit, true, false,
+                categories.stream().filter(category -> category.modSeq() <= limit).toList(),
+                details.stream().filter(detail -> detail.modSeq() <= limit).toList(),
+                deleted.stream().filter(tombstone -> tombstone.modSeq() <= limit).toList());
+    }
+
+    @Scheduled(cron = "${todolist.sync.tombstone-purge-cron:0 0 5 * * *}")
+    public void purgeTombstones() {
+
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(tombstoneRetentionDays);
+            transactionTemplate.executeWithoutResult(status -> syncRepository.raiseTombstoneFloors(cutoff));
+
+            long purged = 0;
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> syncRepository.deleteTombstonesBefore(cutoff, TOMBSTONE_DELETE_BATCH_SIZE));
+                purged += deleted;
+            } while (deleted == TOMBSTONE_DELETE_BATCH_SIZE);
+
+            log.info("Purged tombstones, [before]={}, [count]={}", cutoff, purged);
+        } catch (Exception e) {
+            log.error("[purgeTombstones Error] {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 목록이 PAGE_SIZE 만큼 차 있으면 (마지막 순번 - 1), 아니면 Long.MAX_VALUE
+     */
+    private static <T> long lastCompleteSeq(List<T> rows, ToLongFunction<T> seqOf) {
+
+        if (rows.size() < PAGE_SIZE) {
+            return Long.MAX_VALUE;
+        }
+        return seqOf.applyAsLong(rows.get(rows.size() - 1)) - 1;
+    }
+
+    private static <T> long maxSeq(List<T> rows, ToLongFunction<T> seqOf) {
+
+        return rows.isEmpty() ? Long.MIN_VALUE : seqOf.applyAsLong(rows.get(rows.size() - 1));
+    }
+}
@@ -0,0 +1,73 @@
+package com.acoldbottle.todolist.service;
+
+import com.acoldbottle.todolist.event.TodoChangeEvent;
+import com.acoldbottle.todolist.repository.TodoVersionStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 할일 버전 서비스 (조건부 GET)
+ * ====================================================
+ * etag() => 사용자의 현재 버전으로 만든 ETag
+ * onTodoChange() => 카테고리, 할일 변경이 커밋되면 버전 증가
+ * ====================================================
+ * 조회 API 는 DB 를 조회하기 전에 ETag 를 만들어야 함
+ * -> 버전은 커밋 후에 올라가므로, 먼저 읽은 버전의 ETag 가 더 최신 데이터와 함께 나가는 경우만 생기고 (다음 요청에서 200)
+ *    변경 전 데이터가 새 버전의 ETag 로 나가는 경우는 생기지 않음
+ * 버전을 올리지 못한 사용자는 이전 ETag 로 304 가 나가지 않도록, 다시 올릴 때까지 ETag 를 만들지 않음 (이 서버 안에서만)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoVersionService {
+
+    private final TodoVersionStore todoVersionStore;
+
+    /**
+     * 변경이 커밋됐지만 버전을 올리지 못한 사용자 ID
+     */
+    private final Set<Long> staleUsers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @return 강한 ETag ("{userId}-{version}"), 버전 저장소에 접근할 수 없거나 버전을 다시 올리지 못했으면 null (조건부 GET 생략)
+     */
+    public String etag(Long userId) {
+
+        if (staleUsers.remove(userId) && !bump(userId)) {
+            return null;
+        }
+
+        try {
+            return "\"" + userId + "-" + todoVersionStore.current(userId) + "\"";
+        } catch (Exception e) {
+            log.warn("[etag Error] {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTodoChange(TodoChangeEvent event) {
+
+        bump(event.userId());
+    }
+
+    /**
+     * 버전 증가, 실패하면 다음 etag() 에서 다시 시도하도록 표시
+     */
+    private boolean bump(Long userId) {
+
+        try {
+            todoVersionStore.bump(userId);
+            return true;
+        } catch (Exception e) {
+            staleUsers.add(userId);
+            log.error("[bumpVersion Error] [USER ID]={}, {}", userId, e.getMessage());
+            return false;
+        }
+    }
+}
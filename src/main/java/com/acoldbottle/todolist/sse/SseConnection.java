@@ -0,0 +1,130 @@
+package com.acoldbottle.todolist.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 연결 하나 (기기 하나)
+ *
+ * 보낼 이벤트는 크기가 정해진 queue 에 쌓고, 전송은 virtual thread 하나가 queue 를 비울 때까지 이어서 처리
+ * -> 이벤트를 발행하는 스레드는 네트워크 쓰기를 기다리지 않고, 전송 중이 아닌 연결은 스레드를 차지하지 않음
+ * queue 가 가득 차면(느린 클라이언트) 쌓인 이벤트를 버리고 resync 이벤트 하나만 보냄 -> 클라이언트가 /api/sync 로 따라잡음
+ */
+@Slf4j
+class SseConnection {
+
+    static final String RESYNC_EVENT = "resync";
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+    private final Executor sender;
+    private final AtomicBoolean isDraining = new AtomicBoolean();
+    private volatile boolean isOverflowed;
+    private volatile boolean isClosed;
+
+    SseConnection(Long userId, SseEmitter emitter, int bufferSize, Executor sender) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.sender = sender;
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * 이벤트를 queue 에 넣고 전송 예약, queue 가 가득 차면 resync 로 대체
+     */
+    void enqueue(SseEmitter.SseEventBuilder event) {
+
+        if (isClosed) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            isOverflowed = true;
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * 보낼 이벤트가 없을 때만 heartbeat(comment) 전송 -> 프록시, 로드밸런서의 idle timeout 방지
+     */
+    void heartbeat() {
+
+        if (queue.isEmpty()) {
+            enqueue(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    void close() {
+
+        isClosed = true;
+        queue.clear();
+    }
+
+    boolean isClosed() {
+        return isClosed;
+    }
+
+    private void scheduleDrain() {
+
+        if (isDraining.compareAndSet(false, true)) {
+            try {
+                sender.execute(this::drain);
+            } catch (Exception e) {
+                isDraining.set(false);
+                log.warn("[sse schedule Error] [USER ID]={}, {}", userId, e.getMessage());
+            }
+        }
+    }
+
+    private void drain() {
+
+        try {
+            while (!isClosed) {
+
+                if (isOverflowed) {
+                    isOverflowed = false;
+                    queue.clear();
+                    send(SseEmitter.event().name(RESYNC_EVENT).data("buffer overflow"));
+                    continue;
+                }
+
+                SseEmitter.SseEventBuilder event = queue.poll();
+                if (event == null) {
+                    break;
+                }
+                send(event);
+            }
+        } finally {
+            isDraining.set(false);
+        }
+
+        // drain 을 끝내는 사이에 들어온 이벤트가 남지 않도록 다시 확인
+        if (!isClosed && (isOverflowed || !queue.isEmpty())) {
+            scheduleDrain();
+        }
+    }
+
+    private void send(SseEmitter.SseEventBuilder event) {
+
+        try {
+            emitter.send(event);
+        } catch (Exception e) {
+            // 클라이언트가 연결을 끊음 -> 컨테이너가 onError/onCompletion 콜백을 호출하고, 그 전이라도 heartbeat 때 registry 에서 정리
+            log.debug("SSE send failed, [USER ID]={}, {}", userId, e.getMessage());
+            close();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.acoldbottle.todolist.sse;
+
+import com.acoldbottle.todolist.event.TodoChangeEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 SSE 연결 관리, 카테고리/할일 변경을 같은 사용자의 모든 기기로 전송
+ *
+ * 연결은 서블릿 비동기 요청(SseEmitter)이라 보낼 이벤트가 없는 동안 스레드를 차지하지 않음
+ * 전송은 virtual thread 에서 처리하고, 연결마다 크기가 정해진 queue 를 둠 (SseConnection)
+ * 이벤트는 변경 종류와 ID 만 담음 -> 클라이언트는 /api/sync 로 실제 데이터를 가져옴
+ *
+ * 연결 정보는 서버 메모리에만 있으므로 서버가 여러 대면 같은 서버에 연결된 기기에만 전송됨
+ * -> 놓친 변경은 재연결 후 /api/sync 로 따라잡음
+ */
+@Slf4j
+@Component
+public class TodoEventStream implements DisposableBean {
+
+    static final String CONNECTED_EVENT = "connected";
+
+    private final ConcurrentHashMap<Long, List<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat;
+
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final int maxConnectionsPerUser;
+
+    public TodoEventStream(@Value("${todolist.sse.timeout-ms:600000}") long timeoutMs,
+                           @Value("${todolist.sse.heartbeat-ms:25000}") long heartbeatMs,
+                           @Value("${todolist.sse.buffer-size:64}") int bufferSize,
+                           @Value("${todolist.sse.max-connections-per-user:5}") int maxConnectionsPerUser) {
+
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 새 SSE 연결 등록
+     * 사용자의 연결 수가 최대값을 넘으면 가장 오래된 연결을 닫음 (끊긴 줄 모르고 남아있던 연결)
+     * 연결은 timeoutMs 후 닫히고, 클라이언트는 새 access 토큰으로 다시 연결
+     */
+    public SseEmitter connect(Long userId) {
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        SseConnection connection = new SseConnection(userId, emitter, bufferSize, sender);
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> {
+            remove(connection);
+            emitter.complete();
+        });
+        emitter.onError(e -> remove(connection));
+
+        List<SseConnection> evicted = new ArrayList<>();
+        connections.compute(userId, (id, list) -> {
+            List<SseConnection> result = list != null ? list : new CopyOnWriteArrayList<>();
+            result.add(connection);
+            while (result.size() > maxConnectionsPerUser) {
+                evicted.add(result.remove(0));
+            }
+            return result;
+        });
+
+        for (SseConnection old : evicted) {
+            old.close();
+            old.getEmitter().complete();
+        }
+
+        // 연결 직후 이벤트를 하나 보내서 응답 헤더를 바로 내보냄 (프록시 버퍼링 방지)
+        connection.enqueue(SseEmitter.event().name(CONNECTED_EVENT).data("ok"));
+        return emitter;
+    }
+
+    /**
+     * 카테고리, 할일 변경이 커밋되면 사용자의 모든 연결에 전송 (queue 에 넣기만 하므로 호출한 스레드는 기다리지 않음)
+     */
+    @TransactionalEventListener
+    public void onTodoChange(TodoChangeEvent event) {
+
+        List<SseConnection> userConnections = connections.get(event.userId());
+        if (userConnections == null) {
+            return;
+        }
+
+        Change change = new Change(event.type(), event.categoryId(), event.detailId(), event.dueDate());
+        String name = event.type().name().toLowerCase();
+        for (SseConnection connection : userConnections) {
+            connection.enqueue(SseEmitter.event().name(name).data(change));
+        }
+    }
+
+    /**
+     * 현재 연결 수
+     */
+    public int getConnectionCount() {
+        return connections.values().stream().mapToInt(List::size).sum();
+    }
+
+    @Override
+    public void destroy() {
+
+        heartbeat.shutdownNow();
+        connections.values().forEach(list -> list.forEach(connection -> {
+            connection.close();
+            try {
+                connection.getEmitter().complete();
+            } catch (Exception e) {
+                log.debug("SSE complete failed on shutdown, {}", e.getMessage());
+            }
+        }));
+        connections.clear();
+        sender.shutdown();
+    }
+
+    private void sendHeartbeats() {
+
+        try {
+            connections.values().forEach(list -> list.forEach(connection -> {
+                if (connection.isClosed()) {
+                    remove(connection);
+                } else {
+                    connection.heartbeat();
+                }
+            }));
+        } catch (Exception e) {
+            log.error("[sse heartbeat Error] {}", e.getMessage());
+        }
+    }
+
+    private void remove(SseConnection connection) {
+
+        connection.close();
+        connections.computeIfPresent(connection.getUserId(), (id, list) -> {
+            list.remove(connection);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * 전송하는 이벤트 data (event 이름 = type 소문자)
+     * 할일 완료 여부만 변경한 이벤트는 dueDate 가 null
+     */
+    public record Change(TodoChangeEvent.Type type, Long categoryId, Long detailId, LocalDate dueDate) {
+    }
+}
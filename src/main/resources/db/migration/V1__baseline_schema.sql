@@ -0,0 +1,31 @@
+-- 기존 ddl-auto 로 만들어진 스키마 (기존 DB 는 baseline-on-migrate 로 V1 을 건너뜀)
+
+create table user (
+    user_id     bigint       not null,
+    created_at  datetime(6),
+    modified_at datetime(6),
+    username    varchar(255),
+    email       varchar(255),
+    role        enum ('USER','ADMIN'),
+    provider    varchar(255),
+    primary key (user_id)
+);
+
+create table todo_category (
+    category_id bigint       not null,
+    title       varchar(255),
+    user_id     bigint,
+    due_date    date,
+    deleted     bit          not null default 0,
+    primary key (category_id),
+    constraint fk_todo_category_user foreign key (user_id) references user (user_id)
+);
+
+create table todo_detail (
+    id           bigint       not null,
+    description  varchar(255),
+    is_completed bit          not null default 0,
+    category_id  bigint,
+    primary key (id),
+    constraint fk_todo_detail_category foreign key (category_id) references todo_category (category_id)
+);
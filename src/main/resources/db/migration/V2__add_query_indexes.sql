@@ -0,0 +1,13 @@
+-- findByUsername -> 사용자 이름으로 조회 (소셜 로그인마다 호출)
+create unique index uk_user_username on user (username);
+
+-- 날짜별 카테고리 목록, 하루 전체 조회
+create index idx_todo_category_user_id_due_date on todo_category (user_id, due_date);
+
+-- 같은 날짜에 같은 이름의 카테고리 중복 방지
+-- 삭제 표시된 카테고리는 live 가 null 이라 제외 -> 삭제 후 같은 이름으로 다시 추가 가능
+alter table todo_category add column live tinyint generated always as (case when deleted then null else 1 end);
+create unique index uk_todo_category_user_id_due_date_title on todo_category (user_id, due_date, title, live);
+
+-- 카테고리별 할일 조회, 삭제
+create index idx_todo_detail_category_id on todo_detail (category_id);
@@ -0,0 +1,19 @@
+-- 사용자, 날짜별 할일 수와 완료한 할일 수 (할일 추가, 완료 변경, 삭제 시 같은 트랜잭션에서 갱신)
+create table daily_stats (
+    user_id         bigint not null,
+    due_date        date   not null,
+    total_count     int    not null default 0,
+    completed_count int    not null default 0,
+    primary key (user_id, due_date)
+);
+
+-- 통계 재집계(StatsService.rebuild)는 모든 사용자의 기간을 조회 -> due_date 로 시작하는 인덱스 필요
+create index idx_todo_category_due_date on todo_category (due_date);
+
+-- 기존 할일 집계 (삭제 표시된 카테고리 제외)
+insert into daily_stats (user_id, due_date, total_count, completed_count)
+select c.user_id, c.due_date, count(d.id), sum(case when d.is_completed then 1 else 0 end)
+from todo_category c
+join todo_detail d on d.category_id = c.category_id
+where c.deleted = false and c.user_id is not null and c.due_date is not null
+group by c.user_id, c.due_date;
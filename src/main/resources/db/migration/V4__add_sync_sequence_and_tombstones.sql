@@ -0,0 +1,60 @@
+-- 변경 동기화 (GET /api/sync)
+-- 카테고리, 할일마다 마지막으로 변경된 사용자별 순번(mod_seq), 삭제된 항목은 todo_tombstone 에 기록
+
+alter table todo_category add column mod_seq bigint not null default 0;
+alter table todo_detail add column user_id bigint;
+alter table todo_detail add column mod_seq bigint not null default 0;
+
+update todo_detail d set user_id = (select c.user_id from todo_category c where c.category_id = d.category_id);
+
+-- 기존 데이터는 사용자별로 ID 순서대로 1부터 촘촘하게 순번 부여 (ID 를 그대로 쓰면 2^53 을 넘어 JS 클라이언트에서 반올림됨)
+create table sync_backfill (
+    entity_type varchar(16) not null,
+    entity_id   bigint      not null,
+    seq         bigint      not null,
+    primary key (entity_type, entity_id)
+);
+
+insert into sync_backfill (entity_type, entity_id, seq)
+select t.entity_type, t.entity_id, row_number() over (partition by t.user_id order by t.entity_id)
+from (select 'category' as entity_type, category_id as entity_id, user_id from todo_category
+      union all
+      select 'detail' as entity_type, id as entity_id, user_id from todo_detail) t
+where t.user_id is not null;
+
+update todo_category c set mod_seq = (select b.seq from sync_backfill b where b.entity_type = 'category' and b.entity_id = c.category_id)
+where c.user_id is not null;
+update todo_detail d set mod_seq = (select b.seq from sync_backfill b where b.entity_type = 'detail' and b.entity_id = d.id)
+where d.user_id is not null;
+
+drop table sync_backfill;
+
+create index idx_todo_category_user_id_mod_seq on todo_category (user_id, mod_seq);
+create index idx_todo_detail_user_id_mod_seq on todo_detail (user_id, mod_seq);
+
+-- 사용자별 마지막 순번, tombstone_floor = 정리된 삭제 기록 중 가장 큰 순번 (이보다 오래된 커서는 전체 동기화 필요)
+create table sync_state (
+    user_id         bigint not null,
+    last_seq        bigint not null,
+    tombstone_floor bigint not null default 0,
+    primary key (user_id)
+);
+
+insert into sync_state (user_id, last_seq)
+select t.user_id, max(t.mod_seq)
+from (select user_id, mod_seq from todo_category
+      union all
+      select user_id, mod_seq from todo_detail) t
+where t.user_id is not null
+group by t.user_id;
+
+create table todo_tombstone (
+    user_id     bigint      not null,
+    seq         bigint      not null,
+    entity_type varchar(16) not null,
+    entity_id   bigint      not null,
+    created_at  datetime(6) not null,
+    primary key (user_id, seq, entity_type, entity_id)
+);
+
+create index idx_todo_tombstone_created_at on todo_tombstone (created_at);
@@ -0,0 +1,53 @@
+package com.acoldbottle.todolist.config;
+
+import com.acoldbottle.todolist.dto.DailyStats;
+import com.acoldbottle.todolist.dto.DetailDTO;
+import com.acoldbottle.todolist.dto.SyncChanges;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JacksonConfigTest {
+
+    private static final long LARGE_ID = 9_007_199_254_740_993L; // 2^53 + 1
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .registerModule(new JacksonConfig().entityIdModule());
+
+    @Test
+    void entityIdsAreWrittenAsStrings() throws Exception {
+
+        SyncChanges.Detail detail = new SyncChanges.Detail(LARGE_ID, LARGE_ID - 1, "요가", false, 3);
+
+        String json = objectMapper.writeValueAsString(detail);
+
+        assertThat(json).contains("\"detailId\":\"9007199254740993\"");
+        assertThat(json).contains("\"categoryId\":\"9007199254740992\"");
+        assertThat(json).contains("\"description\":\"요가\"");
+    }
+
+    @Test
+    void nonIdNumbersStayNumeric() throws Exception {
+
+        DailyStats stats = new DailyStats(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1), 5, 2);
+
+        String json = objectMapper.writeValueAsString(stats);
+
+        assertThat(json).contains("\"total\":5");
+        assertThat(json).contains("\"completed\":2");
+    }
+
+    @Test
+    void idsAreReadFromStringsAndNumbers() throws Exception {
+
+        DetailDTO fromString = objectMapper.readValue("{\"detailId\":\"9007199254740993\",\"description\":\"요가\"}", DetailDTO.class);
+        DetailDTO fromNumber = objectMapper.readValue("{\"detailId\":9007199254740993,\"description\":\"요가\"}", DetailDTO.class);
+
+        assertThat(fromString.getDetailId()).isEqualTo(LARGE_ID);
+        assertThat(fromNumber.getDetailId()).isEqualTo(LARGE_ID);
+    }
+}
@@ -0,0 +1,129 @@
+package com.acoldbottle.todolist.controller;
+
+import com.acoldbottle.todolist.querycount.QueryCountTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static com.acoldbottle.todolist.querycount.QueryCounts.assertQueryCounts;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * CategoryApiController 엔드포인트별 SQL 실행 수 (SELECT, INSERT, UPDATE, DELETE)
+ */
+class CategoryApiControllerQueryCountTest extends QueryCountTestSupport {
+
+    @Test
+    void todoListRunsOneSelect() throws Exception {
+
+        insertCategory(10L, "운동");
+        insertCategory(11L, "공부");
+
+        perform(get("/api/todo-categories").param("dueDate", DUE_DATE.toString()).header("access", accessToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category.length()").value(2));
+
+        assertQueryCounts(1, 0, 0, 0);
+    }
+
+    @Test
+    void todoListNotModifiedRunsNoQuery() throws Exception {
+
+        insertCategory(10L, "운동");
+        String etag = mockMvc.perform(get("/api/todo-categories").param("dueDate", DUE_DATE.toString()).header("access", accessToken()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        perform(get("/api/todo-categories").param("dueDate", DUE_DATE.toString()).header("access", accessToken())
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        assertQueryCounts(0, 0, 0, 0);
+    }
+
+    @Test
+    void dayViewRunsOneSelectForCategoriesAndOneForDetails() throws Exception {
+
+        insertCategory(10L, "운동");
+        insertCategory(11L, "공부");
+        insertDetail(100L, 10L, "유산소", false);
+        insertDetail(101L, 10L, "웨이트", true);
+        insertDetail(102L, 11L, "토익", false);
+
+        perform(get("/api/todo-categories/day").param("dueDate", DUE_DATE.toString()).header("access", accessToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category.length()").value(2));
+
+        assertQueryCounts(2, 0, 0, 0);
+    }
+
+    @Test
+    void categoriesInRangeRunsOneSelect() throws Exception {
+
+        insertCategory(10L, "운동");
+        insertCategory(11L, "공부");
+
+        perform(get("/api/todo-categories/range")
+                .param("from", DUE_DATE.toString())
+                .param("to", DUE_DATE.plusDays(6).toString())
+                .param("size", "1")
+                .header("access", accessToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+
+        assertQueryCounts(1, 0, 0, 0);
+    }
+
+    /**
+     * SELECT 사용자, 순번 / INSERT 순번(sync_state), 카테고리
+     */
+    @Test
+    void addCategory() throws Exception {
+
+        perform(post("/api/todo-categories").param("dueDate", DUE_DATE.toString()).header("access", accessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"운동\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category.title").value("운동"));
+
+        assertQueryCounts(2, 2, 0, 0);
+    }
+
+    /**
+     * 같은 날짜에 같은 이름이면 유니크 인덱스 위반 -> 409, 순번 증가도 함께 롤백
+     */
+    @Test
+    void addDuplicateCategory() throws Exception {
+
+        insertCategory(10L, "운동");
+
+        perform(post("/api/todo-categories").param("dueDate", DUE_DATE.toString()).header("access", accessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"운동\"}"))
+                .andExpect(status().isConflict());
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from todo_category where user_id = ?", Long.class, USER_ID)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from sync_state where user_id = ?", Long.class, USER_ID)).isZero();
+    }
+
+    /**
+     * SELECT 카테고리(+사용자), 할일 수, 순번 / INSERT 통계, 순번, 삭제 기록 / UPDATE 삭제 표시
+     */
+    @Test
+    void deleteCategory() throws Exception {
+
+        insertCategory(10L, "운동");
+        insertDetail(100L, 10L, "유산소", false);
+        insertDetail(101L, 10L, "웨이트", true);
+
+        perform(delete("/api/todo-categories/{categoryId}", 10L).header("access", accessToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("카테고리가 성공적으로 삭제되었습니다."));
+
+        assertQueryCounts(3, 3, 1, 0);
+    }
+}
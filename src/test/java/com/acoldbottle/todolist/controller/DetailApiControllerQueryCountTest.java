@@ -0,0 +1,218 @@
+package com.acoldbottle.todolist.controller;
+
+import com.acoldbottle.todolist.querycount.QueryCountTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static com.acoldbottle.todolist.querycount.QueryCounts.assertQueryCounts;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * DetailApiController 엔드포인트별 SQL 실행 수 (SELECT, INSERT, UPDATE, DELETE)
+ * 카테고리 하나(10)에 할일 세 개(100, 101 완료, 102)가 있는 상태에서 시작
+ */
+class DetailApiControllerQueryCountTest extends QueryCountTestSupport {
+
+    private static final long CATEGORY_ID = 10L;
+
+    @BeforeEach
+    void insertCategoryAndDetails() {
+
+        insertCategory(CATEGORY_ID, "운동");
+        insertDetail(100L, CATEGORY_ID, "유산소", false);
+        insertDetail(101L, CATEGORY_ID, "웨이트", true);
+        insertDetail(102L, CATEGORY_ID, "스트레칭", false);
+    }
+
+    /**
+     * SELECT 카테고리(+사용자), 할일 목록 -> 서비스에서 카테고리를 다시 조회하지만 같은 영속성 컨텍스트(open-in-view)에서 찾음
+     */
+    @Test
+    void getDetailsByCategory() throws Exception {
+
+        perform(get("/api/todo-categories/{categoryId}/details", CATEGORY_ID).header("access", accessToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category.detail.length()").value(3));
+
+        assertQueryCounts(2, 0, 0, 0);
+    }
+
+    /**
+     * SELECT 카테고리 소유자 확인, 할일 페이지
+     */
+    @Test
+    void getDetailPage() throws Exception {
+
+        perform(get("/api/todo-categories/{categoryId}/details/page", CATEGORY_ID).param("size", "2").header("access", accessToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.details.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+
+        assertQueryCounts(2, 0, 0, 0);
+    }
+
+    /**
+     * SELECT 카테고리(+사용자), 순번 / INSERT 순번, 할일, 통계
+     */
+    @Test
+    void addDetail() throws Exception {
+
+        perform(post("/api/todo-categories/{categoryId}/details", CATEGORY_ID).header("access", accessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\": \"요가\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category.detail[0].description").value("요가"));
+
+        assertQueryCounts(2, 3, 0, 0);
+    }
+
+    /**
+     * SELECT 카테고리(+사용자), 할일, 순번 / INSERT 통계, 순번 / UPDATE 할일
+     */
+    @Test
+    void updateDetail() throws Exception {
+
+        perform(patch("/api/todo-categories/{categoryId}/details/{detailId}", CATEGORY_ID, 100L).header("access", accessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\": \"인터벌\", \"is_completed\": true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category.detail[0].is_completed").value(true));
+
+        assertQueryCounts(3, 2, 1, 0);
+    }
+
+    /**
+     * SELECT 없음 / INSERT 순번, 통계(마감일은 카테고리에서 INSERT ... SELECT) / UPDATE 할일 (소유자 조건, 순번 서브쿼리 포함)
+     */
+    @Test
+    void updateCompletion() throws Exception {
+
+        perform(put("/api/todo-categories/{categoryId}/details/{detailId}/completion", CATEGORY_ID, 100L).header("access", accessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"is_completed\": true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1));
+
+        assertQueryCounts(0, 2, 1, 0);
+    }
+
+    /**
+     * 이미 같은 값이면 UPDATE 는 0행 -> 할일이 있는지 확인하는 SELECT 가 하나 늘고 통계는 건드리지 않음
+     * (카테고리는 할일이 없을 때만 확인)
+     */
+    @Test
+    void updateCompletionWithSameValue() throws Exception {
+
+        perform(put("/api/todo-categories/{categoryId}/details/{detailId}/completion", CATEGORY_ID, 101L).header("access", accessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"is_completed\": true}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(0));
+
+        assertQueryCounts(1, 1, 1, 0);
+    }
+
+    /**
+     * SELECT 할일(+카테고리, 사용자), 순번 / INSERT 통계, 순번, 삭제 기록 / DELETE 할일
+     */
+    @Test
+    void deleteDetail() throws Exception {
+
+        perform(delete("/api/todo-categories/{categoryId}/details/{detailId}", CATEGORY_ID, 100L).header("access", accessToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("할일이 성공적으로 삭제되었습니다."));
+
+        assertQueryCounts(2, 3, 0, 1);
+    }
+
+    /**
+     * 삭제 표시된 카테고리의 할일은 찾지 못함 -> 통계를 다시 빼지 않음
+     */
+    @Test
+    void deleteDetailOfDeletedCategory() throws Exception {
+
+        jdbcTemplate.update("update todo_category set deleted = true where category_id = ?", CATEGORY_ID);
+
+        perform(delete("/api/todo-categories/{categoryId}/details/{detailId}", CATEGORY_ID, 100L).header("access", accessToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("할일을 찾을 수 없습니다."));
+
+        assertQueryCounts(1, 0, 0, 0);
+    }
+
+    /**
+     * 추가 2, 완료 변경 1, 내용 변경 1, 삭제 1
+     * SELECT 카테고리(+사용자), 요청한 할일 ID, 순번
+     * INSERT 순번, 할일(batch 1번), 삭제 기록, 통계 다시 집계
+     * UPDATE 완료 여부(집합 단위), 내용(batch 1번)
+     * DELETE 할일(집합 단위)
+     */
+    @Test
+    void batchDetails() throws Exception {
+
+        perform(post("/api/todo-categories/{categoryId}/details/batch", CATEGORY_ID).header("access", accessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {
+                          "create": ["요가", "필라테스"],
+                          "update": [{"detailId": 100, "is_completed": true}, {"detailId": 102, "description": "폼롤러"}],
+                          "delete": [101]
+                        }
+                        """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(5));
+
+        assertQueryCounts(3, 4, 2, 1);
+    }
+
+    /**
+     * 수정할 할일 ID 가 없으면 400 -> 카테고리 조회 전에 거절하므로 SQL 없음
+     */
+    @Test
+    void batchDetailsWithoutDetailId() throws Exception {
+
+        perform(post("/api/todo-categories/{categoryId}/details/batch", CATEGORY_ID).header("access", accessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"update\": [{\"description\": \"폼롤러\"}]}"))
+                .andExpect(status().isBadRequest());
+
+        assertQueryCounts(0, 0, 0, 0);
+    }
+
+    /**
+     * null 할일 ID, null 목록, 빈 내용은 요청 검증에서 400
+     */
+    @Test
+    void batchDetailsWithNullValues() throws Exception {
+
+        for (String content : new String[]{"{\"delete\": [null]}", "{\"update\": null}", "{\"create\": [\" \"]}"}) {
+            perform(post("/api/todo-categories/{categoryId}/details/batch", CATEGORY_ID).header("access", accessToken())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(content))
+                    .andExpect(status().isBadRequest());
+
+            assertQueryCounts(0, 0, 0, 0);
+        }
+    }
+
+    /**
+     * 같은 할일을 두 번 수정하면 (완료 여부가 서로 다르면 결과가 순서에 따라 달라지므로) 400
+     */
+    @Test
+    void batchDetailsWithDuplicateUpdate() throws Exception {
+
+        perform(post("/api/todo-categories/{categoryId}/details/batch", CATEGORY_ID).header("access", accessToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"update\": [{\"detailId\": 100, \"is_completed\": true}, {\"detailId\": 100, \"is_completed\": false}]}"))
+                .andExpect(status().isBadRequest());
+
+        assertQueryCounts(0, 0, 0, 0);
+    }
+}
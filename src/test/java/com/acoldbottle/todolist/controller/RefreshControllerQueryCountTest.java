@@ -0,0 +1,34 @@
+package com.acoldbottle.todolist.controller;
+
+import com.acoldbottle.todolist.querycount.QueryCountTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static com.acoldbottle.todolist.querycount.QueryCounts.assertQueryCounts;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * RefreshController SQL 실행 수 -> 토큰 재발급은 refresh 토큰 저장소만 사용하고 DB 를 조회하지 않음
+ */
+class RefreshControllerQueryCountTest extends QueryCountTestSupport {
+
+    @Test
+    void reissueRunsNoQuery() throws Exception {
+
+        perform(post("/reissue").header("refresh", refreshToken()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("access"));
+
+        assertQueryCounts(0, 0, 0, 0);
+    }
+
+    @Test
+    void reissueWithoutRefreshTokenRunsNoQuery() throws Exception {
+
+        perform(post("/reissue"))
+                .andExpect(status().isUnauthorized());
+
+        assertQueryCounts(0, 0, 0, 0);
+    }
+}
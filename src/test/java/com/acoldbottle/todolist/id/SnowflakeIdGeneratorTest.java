@@ -0,0 +1,107 @@
+package com.acoldbottle.todolist.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void idsAreUniqueAcrossThreads() throws Exception {
+
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        int threads = 16;
+        int idsPerThread = 100_000;
+
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long previous = Long.MIN_VALUE;
+                    boolean isIncreasing = true;
+                    for (int j = 0; j < idsPerThread; j++) {
+                        long id = generator.nextId();
+                        isIncreasing &= id > previous;
+                        previous = id;
+                        ids.add(id);
+                    }
+                    return isIncreasing;
+                }));
+            }
+
+            start.countDown();
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(threads * idsPerThread);
+    }
+
+    @Test
+    void idsKeepIncreasingWhenClockMovesBackwards() {
+
+        AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH + 10_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        long before = generator.nextId();
+        clock.addAndGet(-5_000);
+        long after = generator.nextId();
+
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    void sequenceOverflowBorrowsNextMillisecond() {
+
+        long now = SnowflakeIdGenerator.EPOCH + 10_000;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> now);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+
+        assertThat(SnowflakeIdGenerator.timestampOf(previous)).isGreaterThan(now);
+    }
+
+    @Test
+    void nodeIdSeparatesNodes() {
+
+        long now = SnowflakeIdGenerator.EPOCH + 10_000;
+        long first = new SnowflakeIdGenerator(1, () -> now).nextId();
+        long second = new SnowflakeIdGenerator(2, () -> now).nextId();
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(SnowflakeIdGenerator.timestampOf(first)).isEqualTo(now);
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
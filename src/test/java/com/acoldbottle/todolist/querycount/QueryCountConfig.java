@@ -0,0 +1,33 @@
+package com.acoldbottle.todolist.querycount;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * 테스트용 DataSource 를 datasource-proxy 로 감싸서 실행된 SQL 을 QueryRecorder 에 기록
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountConfig {
+
+    @Bean
+    public static BeanPostProcessor queryRecordingDataSourcePostProcessor() {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new QueryRecorder())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
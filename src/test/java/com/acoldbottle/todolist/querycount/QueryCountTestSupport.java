@@ -0,0 +1,89 @@
+package com.acoldbottle.todolist.querycount;
+
+import com.acoldbottle.todolist.domain.UserRole;
+import com.acoldbottle.todolist.jwt.JWTUtil;
+import com.acoldbottle.todolist.jwt.TokenExpiration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+
+/**
+ * 엔드포인트별 SQL 실행 수를 고정하는 테스트의 공통 설정
+ *
+ * 실제 요청처럼 트랜잭션이 커밋되어야 하므로 테스트 메서드에 @Transactional 을 붙이지 않고, 데이터는 테스트마다 지움
+ * 테스트 데이터는 JdbcTemplate 으로 넣고, perform() 으로 보낸 요청이 실행한 SQL 만 센다
+ * 2차 캐시는 테스트 설정에서 끄므로 캐시 상태와 관계없이 DB 에 보내는 SQL 수가 일정함
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(QueryCountConfig.class)
+public abstract class QueryCountTestSupport {
+
+    protected static final long USER_ID = 1L;
+    protected static final String USERNAME = "google_1";
+    protected static final LocalDate DUE_DATE = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected JWTUtil jwtUtil;
+
+    @BeforeEach
+    void insertUser() {
+
+        jdbcTemplate.update("insert into user (user_id, username, role, provider) values (?, ?, 'USER', 'google')", USER_ID, USERNAME);
+    }
+
+    @AfterEach
+    void deleteAll() {
+
+        jdbcTemplate.update("delete from todo_tombstone");
+        jdbcTemplate.update("delete from sync_state");
+        jdbcTemplate.update("delete from daily_stats");
+        jdbcTemplate.update("delete from todo_detail");
+        jdbcTemplate.update("delete from todo_category");
+        jdbcTemplate.update("delete from user");
+    }
+
+    /**
+     * SQL 기록을 비우고 요청 실행 -> 이후 QueryCounts.assertQueryCounts() 로 확인
+     */
+    protected ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+
+        QueryCounts.reset();
+        return mockMvc.perform(request);
+    }
+
+    protected String accessToken() {
+        return "Bearer " + jwtUtil.createJwt("access", USERNAME, UserRole.USER, USER_ID, TokenExpiration.ACCESS_TOKEN_EXPIRATION);
+    }
+
+    protected String refreshToken() {
+        return jwtUtil.createJwt("refresh", USERNAME, UserRole.USER, USER_ID, TokenExpiration.REFRESH_TOKEN_EXPIRATION);
+    }
+
+    protected void insertCategory(long categoryId, String title) {
+
+        jdbcTemplate.update("insert into todo_category (category_id, title, user_id, due_date, deleted, mod_seq) values (?, ?, ?, ?, false, 0)",
+                categoryId, title, USER_ID, DUE_DATE);
+    }
+
+    protected void insertDetail(long detailId, long categoryId, String description, boolean isCompleted) {
+
+        jdbcTemplate.update("insert into todo_detail (id, description, is_completed, category_id, user_id, mod_seq) values (?, ?, ?, ?, ?, 0)",
+                detailId, description, isCompleted, categoryId, USER_ID);
+    }
+}
@@ -0,0 +1,53 @@
+package com.acoldbottle.todolist.querycount;
+
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 종류별 SQL 실행 수 (SELECT, INSERT, UPDATE, DELETE)
+ * INSERT ... ON DUPLICATE KEY UPDATE, INSERT ... SELECT 는 INSERT, 서브쿼리가 있는 UPDATE 는 UPDATE 로 셈
+ */
+public record QueryCounts(int select, int insert, int update, int delete) {
+
+    public static QueryCounts of(List<String> queries) {
+
+        int select = 0;
+        int insert = 0;
+        int update = 0;
+        int delete = 0;
+        for (String query : queries) {
+            QueryType type = QueryUtils.getQueryType(query);
+            switch (type) {
+                case SELECT -> select++;
+                case INSERT -> insert++;
+                case UPDATE -> update++;
+                case DELETE -> delete++;
+                default -> {
+                }
+            }
+        }
+        return new QueryCounts(select, insert, update, delete);
+    }
+
+    /**
+     * 기록을 비움 -> 측정할 요청 바로 전에 호출
+     */
+    public static void reset() {
+        QueryRecorder.clear();
+    }
+
+    /**
+     * reset() 이후 실행된 SQL 수가 정확히 같은지 확인, 다르면 실행된 SQL 목록을 함께 출력
+     */
+    public static void assertQueryCounts(int select, int insert, int update, int delete) {
+
+        List<String> queries = QueryRecorder.queries();
+        assertThat(of(queries))
+                .as("executed SQL:%n%s", String.join(System.lineSeparator(), queries))
+                .isEqualTo(new QueryCounts(select, insert, update, delete));
+    }
+}
@@ -0,0 +1,38 @@
+package com.acoldbottle.todolist.querycount;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실행된 SQL 을 스레드별로 기록하는 datasource-proxy 리스너
+ * MockMvc 요청은 테스트 스레드에서 처리되므로 요청 하나가 실행한 SQL 만 모을 수 있음
+ * JDBC batch 는 SQL 하나로 기록 (DB 왕복 기준)
+ */
+public class QueryRecorder implements QueryExecutionListener {
+
+    private static final ThreadLocal<List<String>> QUERIES = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            QUERIES.get().add(queryInfo.getQuery());
+        }
+    }
+
+    public static void clear() {
+        QUERIES.get().clear();
+    }
+
+    public static List<String> queries() {
+        return List.copyOf(QUERIES.get());
+    }
+}
@@ -0,0 +1,90 @@
+package com.acoldbottle.todolist.repository;
+
+import com.acoldbottle.todolist.domain.RefreshToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshRepositoryTest {
+
+    private RedisTemplate<String, RefreshToken> redisTemplate;
+    private RefreshRepository refreshRepository;
+
+    /**
+     * pipeline 한 번에 보낸 DEL 수
+     */
+    private final List<Integer> pipelineSizes = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+
+        redisTemplate = mock(RedisTemplate.class);
+        refreshRepository = new RefreshRepository(redisTemplate);
+
+        // pipeline 의 DEL 을 세고, 짝수 번째 키만 있었던 것처럼 0, 1 을 번갈아 응답
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+
+            RedisConnection connection = mock(RedisConnection.class);
+            RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+            when(connection.keyCommands()).thenReturn(keyCommands);
+
+            RedisCallback<Object> callback = invocation.getArgument(0);
+            callback.doInRedis(connection);
+
+            int size = mockingDetails(keyCommands).getInvocations().size();
+            pipelineSizes.add(size);
+
+            List<Object> results = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                results.add(i % 2 == 0 ? 1L : 0L);
+            }
+            return results;
+        });
+    }
+
+    @Test
+    void deleteAllByUsernameSendsOnePipelinePerThousandKeys() {
+
+        List<String> usernames = IntStream.range(0, 2500).mapToObj(i -> "google_" + i).toList();
+
+        long deleted = refreshRepository.deleteAllByUsername(usernames);
+
+        assertThat(pipelineSizes).containsExactly(1000, 1000, 500);
+        assertThat(deleted).isEqualTo(500 + 500 + 250);
+    }
+
+    @Test
+    void deleteAllByUsernameWithExactBatchSizeDoesNotSendEmptyPipeline() {
+
+        List<String> usernames = IntStream.range(0, 1000).mapToObj(i -> "google_" + i).toList();
+
+        refreshRepository.deleteAllByUsername(usernames);
+
+        assertThat(pipelineSizes).containsExactly(1000);
+    }
+
+    @Test
+    void deleteAllByUsernameWithoutUsernamesSkipsRedis() {
+
+        assertThat(refreshRepository.deleteAllByUsername(Collections.emptyList())).isZero();
+
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+}
@@ -0,0 +1,214 @@
+package com.acoldbottle.todolist.repository;
+
+import com.acoldbottle.todolist.domain.TodoCategory;
+import com.acoldbottle.todolist.domain.User;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마(H2, MySQL 모드)에서
+ * 리포지토리 메서드가 실제로 실행한 SQL 이 인덱스를 사용하는지 EXPLAIN 으로 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DailyStatsRepository.class)
+class SchemaIndexTest {
+
+    private static final LocalDate DUE_DATE = LocalDate.of(2024, 1, 1);
+
+    /**
+     * H2 는 V1 의 외래 키에도 인덱스를 만들고, 비용이 같으면 먼저 만든 그 인덱스를 고름
+     * (MySQL 은 V2 에서 같은 컬럼 인덱스를 만들면 외래 키용 인덱스를 따로 두지 않음)
+     */
+    private static final String[] DETAIL_CATEGORY_ID_INDEXES = {"idx_todo_detail_category_id", "fk_todo_detail_category"};
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @Autowired
+    DetailRepository detailRepository;
+
+    @Autowired
+    DailyStatsRepository dailyStatsRepository;
+
+    @BeforeEach
+    void setUp() {
+
+        jdbcTemplate.update("insert into user (user_id, username, role) values (1, 'google_1', 'USER'), (2, 'google_2', 'USER')");
+        jdbcTemplate.update("insert into todo_category (category_id, title, user_id, due_date, deleted) values " +
+                "(10, '운동', 1, '2024-01-01', false), (11, '공부', 1, '2024-01-01', false), (12, '운동', 2, '2024-01-02', false)");
+        jdbcTemplate.update("insert into todo_detail (id, description, is_completed, category_id) values " +
+                "(100, '유산소', false, 10), (101, '웨이트', false, 10), (102, '토익', false, 11)");
+    }
+
+    @Test
+    void findByUsernameUsesUniqueUsernameIndex() {
+
+        String plan = explainLastSelect(() -> userRepository.findByUsername("google_1"));
+
+        assertThat(plan).containsIgnoringCase("uk_user_username").doesNotContain("tableScan");
+    }
+
+    @Test
+    void findSummariesByUserIdAndDueDateUsesUserIdDueDateIndex() {
+
+        String plan = explainLastSelect(() -> categoryRepository.findSummariesByUserIdAndDueDate(1L, DUE_DATE));
+
+        assertThat(plan.toLowerCase()).containsAnyOf("idx_todo_category_user_id_due_date", "uk_todo_category_user_id_due_date_title")
+                .doesNotContain("tablescan");
+    }
+
+    @Test
+    void findCategoryByTitleUsesUniqueTitleIndex() {
+
+        User user = userRepository.getReferenceById(1L);
+        String plan = explainLastSelect(() -> categoryRepository.findByUserAndDueDateAndTitle(user, DUE_DATE, "운동"));
+
+        assertThat(plan.toLowerCase()).containsAnyOf("idx_todo_category_user_id_due_date", "uk_todo_category_user_id_due_date_title")
+                .doesNotContain("tablescan");
+    }
+
+    @Test
+    void findByTodoCategoryUsesCategoryIdIndex() {
+
+        TodoCategory category = categoryRepository.findById(10L).orElseThrow();
+        String plan = explainLastSelect(() -> detailRepository.findByTodoCategory(category));
+
+        assertThat(plan.toLowerCase()).containsAnyOf(DETAIL_CATEGORY_ID_INDEXES).doesNotContain("tablescan");
+    }
+
+    @Test
+    void findDtosByUserIdAndDueDateUsesIndexesOnBothTables() {
+
+        String plan = explainLastSelect(() -> detailRepository.findDtosByUserIdAndDueDate(1L, DUE_DATE));
+
+        assertThat(plan.toLowerCase()).containsAnyOf("idx_todo_category_user_id_due_date", "uk_todo_category_user_id_due_date_title")
+                .containsAnyOf(DETAIL_CATEGORY_ID_INDEXES)
+                .doesNotContain("tablescan");
+    }
+
+    @Test
+    void dailyStatsRebuildUsesDueDateIndex() {
+
+        String plan = explainLast("insert", () -> dailyStatsRepository.rebuild(DUE_DATE, DUE_DATE.plusDays(6)));
+
+        assertThat(plan.toLowerCase()).contains("idx_todo_category_due_date").doesNotContain("todo_category.tablescan");
+    }
+
+    @Test
+    void duplicateCategoryTitleOnSameDayIsRejected() {
+
+        assertThatThrownBy(() -> jdbcTemplate.update("insert into todo_category (category_id, title, user_id, due_date, deleted) " +
+                "values (13, '운동', 1, '2024-01-01', false)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void deletedCategoryTitleCanBeReused() {
+
+        jdbcTemplate.update("update todo_category set deleted = true where category_id = 10");
+        jdbcTemplate.update("insert into todo_category (category_id, title, user_id, due_date, deleted) " +
+                "values (13, '운동', 1, '2024-01-01', false)");
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from todo_category where title = '운동' and user_id = 1", Long.class))
+                .isEqualTo(2L);
+    }
+
+    private String explainLastSelect(Runnable repositoryCall) {
+
+        return explainLast("select", repositoryCall);
+    }
+
+    /**
+     * 리포지토리 메서드가 실행한 statementType(select, insert ...) 중 마지막 SQL 을 바인딩 값 그대로 EXPLAIN
+     */
+    private String explainLast(String statementType, Runnable repositoryCall) {
+
+        STATEMENTS.clear();
+        repositoryCall.run();
+
+        List<String> statements = STATEMENTS.stream().filter(sql -> sql.startsWith(statementType)).toList();
+        assertThat(statements).as("리포지토리 메서드가 " + statementType + " 를 실행해야 함").isNotEmpty();
+        return jdbcTemplate.queryForObject("explain " + statements.get(statements.size() - 1), String.class);
+    }
+
+    /**
+     * 실행된 SQL 의 ? 를 바인딩된 값으로 바꿔서 기록 (EXPLAIN 은 실제로 실행된 SQL 과 같은 조건으로 계획을 세움)
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    static class StatementCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSourcePostProcessor() {
+
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+                    if (bean instanceof DataSource dataSource) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .name(beanName)
+                                .afterQuery((execInfo, queryInfoList) -> queryInfoList.forEach(StatementCaptureConfig::capture))
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static void capture(QueryInfo queryInfo) {
+
+            List<Object> values = queryInfo.getParametersList().isEmpty() ? List.of() : queryInfo.getParametersList().get(0).stream()
+                    .sorted(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]))
+                    .map(operation -> operation.getArgs()[1])
+                    .toList();
+
+            StringBuilder sql = new StringBuilder();
+            int valueIndex = 0;
+            for (char c : queryInfo.getQuery().trim().toCharArray()) {
+                if (c == '?' && valueIndex < values.size()) {
+                    sql.append(literal(values.get(valueIndex++)));
+                } else {
+                    sql.append(c);
+                }
+            }
+            STATEMENTS.add(sql.toString());
+        }
+
+        private static String literal(Object value) {
+
+            if (value instanceof Number || value instanceof Boolean) {
+                return value.toString();
+            }
+            return "'" + value.toString().replace("'", "''") + "'";
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.acoldbottle.todolist.service;
+
+import com.acoldbottle.todolist.dto.SyncChanges;
+import com.acoldbottle.todolist.repository.SyncRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SyncServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate DUE_DATE = LocalDate.of(2024, 1, 1);
+
+    private SyncRepository syncRepository;
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+
+        syncRepository = mock(SyncRepository.class);
+        syncService = new SyncService(syncRepository, mock(PlatformTransactionManager.class), 30);
+        when(syncRepository.findCategoriesAfter(eq(USER_ID), anyLong(), anyInt())).thenReturn(List.of());
+        when(syncRepository.findDetailsAfter(eq(USER_ID), anyLong(), anyInt())).thenReturn(List.of());
+        when(syncRepository.findTombstonesAfter(eq(USER_ID), anyLong(), anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    void firstSyncSkipsTombstonesAndReturnsLastSeq() {
+
+        when(syncRepository.findCategoriesAfter(USER_ID, -1L, SyncService.PAGE_SIZE)).thenReturn(List.of(category(10, 1), category(11, 3)));
+        when(syncRepository.findDetailsAfter(USER_ID, -1L, SyncService.PAGE_SIZE)).thenReturn(List.of(detail(100, 2)));
+
+        SyncChanges changes = syncService.getChanges(USER_ID, null);
+
+        assertThat(changes.cursor()).isEqualTo(3);
+        assertThat(changes.hasMore()).isFalse();
+        assertThat(changes.categories()).hasSize(2);
+        assertThat(changes.details()).hasSize(1);
+        verify(syncRepository, never()).findTombstonesAfter(eq(USER_ID), anyLong(), anyInt());
+    }
+
+    @Test
+    void noChangesKeepsCursor() {
+
+        SyncChanges changes = syncService.getChanges(USER_ID, 7L);
+
+        assertThat(changes.cursor()).isEqualTo(7);
+        assertThat(changes.hasMore()).isFalse();
+    }
+
+    @Test
+    void staleCursorRequiresReset() {
+
+        when(syncRepository.tombstoneFloor(USER_ID)).thenReturn(50L);
+
+        SyncChanges changes = syncService.getChanges(USER_ID, 49L);
+
+        assertThat(changes.resetRequired()).isTrue();
+        verify(syncRepository, never()).findCategoriesAfter(eq(USER_ID), anyLong(), anyInt());
+    }
+
+    @Test
+    void truncatedListStopsBeforeItsLastSeq() {
+
+        // 할일 목록이 꽉 참: 마지막 순번 500 은 일부만 받았을 수 있음
+        List<SyncChanges.Detail> details = new ArrayList<>();
+        for (int i = 0; i < SyncService.PAGE_SIZE - 1; i++) {
+            details.add(detail(1000 + i, i + 1));
+        }
+        details.add(detail(2000, SyncService.PAGE_SIZE));
+        when(syncRepository.findDetailsAfter(USER_ID, 0L, SyncService.PAGE_SIZE)).thenReturn(details);
+        when(syncRepository.findCategoriesAfter(USER_ID, 0L, SyncService.PAGE_SIZE))
+                .thenReturn(List.of(category(10, 1), category(11, SyncService.PAGE_SIZE)));
+        when(syncRepository.findTombstonesAfter(USER_ID, 0L, SyncService.PAGE_SIZE))
+                .thenReturn(List.of(new SyncChanges.Deleted(SyncRepository.DETAIL, 3000L, SyncService.PAGE_SIZE)));
+
+        SyncChanges changes = syncService.getChanges(USER_ID, 0L);
+
+        assertThat(changes.cursor()).isEqualTo(SyncService.PAGE_SIZE - 1);
+        assertThat(changes.hasMore()).isTrue();
+        assertThat(changes.details()).hasSize(SyncService.PAGE_SIZE - 1);
+        assertThat(changes.categories()).extracting(SyncChanges.Category::categoryId).containsExactly(10L);
+        assertThat(changes.deleted()).isEmpty();
+    }
+
+    @Test
+    void smallestTruncatedSeqWins() {
+
+        List<SyncChanges.Category> categories = new ArrayList<>();
+        List<SyncChanges.Detail> details = new ArrayList<>();
+        for (int i = 0; i < SyncService.PAGE_SIZE; i++) {
+            categories.add(category(10 + i, i + 1));
+            details.add(detail(1000 + i, 2 * (i + 1)));
+        }
+        when(syncRepository.findCategoriesAfter(USER_ID, 0L, SyncService.PAGE_SIZE)).thenReturn(categories);
+        when(syncRepository.findDetailsAfter(USER_ID, 0L, SyncService.PAGE_SIZE)).thenReturn(details);
+
+        SyncChanges changes = syncService.getChanges(USER_ID, 0L);
+
+        assertThat(changes.cursor()).isEqualTo(SyncService.PAGE_SIZE - 1);
+        assertThat(changes.hasMore()).isTrue();
+        assertThat(changes.categories()).hasSize(SyncService.PAGE_SIZE - 1);
+        assertThat(changes.details()).allMatch(detail -> detail.modSeq() <= SyncService.PAGE_SIZE - 1);
+    }
+
+    private static SyncChanges.Category category(long categoryId, long modSeq) {
+
+        return new SyncChanges.Category(categoryId, "운동", DUE_DATE, modSeq);
+    }
+
+    private static SyncChanges.Detail detail(long detailId, long modSeq) {
+
+        return new SyncChanges.Detail(detailId, 10L, "요가", false, modSeq);
+    }
+}
@@ -0,0 +1,69 @@
+package com.acoldbottle.todolist.service;
+
+import com.acoldbottle.todolist.event.TodoChangeEvent;
+import com.acoldbottle.todolist.repository.TodoVersionStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TodoVersionServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final FlakyVersionStore store = new FlakyVersionStore();
+    private final TodoVersionService todoVersionService = new TodoVersionService(store);
+
+    @Test
+    void failedBumpSuppressesEtagUntilBumpSucceeds() {
+
+        String before = todoVersionService.etag(USER_ID);
+
+        store.isFailing.set(true);
+        todoVersionService.onTodoChange(change());
+        assertThat(todoVersionService.etag(USER_ID)).isNull();
+        assertThat(todoVersionService.etag(USER_ID)).isNull();
+
+        store.isFailing.set(false);
+        String after = todoVersionService.etag(USER_ID);
+        assertThat(after).isNotNull().isNotEqualTo(before);
+        assertThat(todoVersionService.etag(USER_ID)).isEqualTo(after);
+    }
+
+    @Test
+    void successfulBumpChangesEtag() {
+
+        String before = todoVersionService.etag(USER_ID);
+
+        todoVersionService.onTodoChange(change());
+
+        assertThat(todoVersionService.etag(USER_ID)).isNotNull().isNotEqualTo(before);
+    }
+
+    private static TodoChangeEvent change() {
+        return TodoChangeEvent.categorySaved(USER_ID, 10L, LocalDate.of(2024, 1, 1), "운동");
+    }
+
+    private static class FlakyVersionStore implements TodoVersionStore {
+
+        private final AtomicLong version = new AtomicLong();
+        private final AtomicBoolean isFailing = new AtomicBoolean();
+
+        @Override
+        public long current(Long userId) {
+            return version.get();
+        }
+
+        @Override
+        public long bump(Long userId) {
+
+            if (isFailing.get()) {
+                throw new IllegalStateException("version store unavailable");
+            }
+            return version.incrementAndGet();
+        }
+    }
+}